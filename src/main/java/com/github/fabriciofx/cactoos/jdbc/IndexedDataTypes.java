@@ -0,0 +1,121 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc;
+
+import java.sql.Types;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Data types indexed by the JDBC type code.
+ *
+ * <p>Each {@link Types} code is resolved to the first matching
+ * {@link DataType} on its first lookup and kept in an array.</p>
+ *
+ * <p>This class is thread-safe.
+ *
+ * @since 0.3
+ */
+public final class IndexedDataTypes implements DataTypes {
+    /**
+     * Lowest code in {@link Types}.
+     */
+    private static final int LOWEST = Types.LONGNVARCHAR;
+
+    /**
+     * Highest code in {@link Types}.
+     */
+    private static final int HIGHEST = Types.TIMESTAMP_WITH_TIMEZONE;
+
+    /**
+     * Types, in order of precedence.
+     */
+    private final Iterable<DataType<?>> types;
+
+    /**
+     * Data type used when no type matches.
+     */
+    private final DataType<?> def;
+
+    /**
+     * Resolved types, by code.
+     */
+    private final AtomicReferenceArray<DataType<?>> table;
+
+    /**
+     * Ctor.
+     * @param typs Types, in order of precedence
+     * @param fallback Data type used when no type matches
+     */
+    public IndexedDataTypes(
+        final Iterable<DataType<?>> typs,
+        final DataType<?> fallback
+    ) {
+        this.types = typs;
+        this.def = fallback;
+        this.table = new AtomicReferenceArray<>(
+            IndexedDataTypes.HIGHEST - IndexedDataTypes.LOWEST + 1
+        );
+    }
+
+    @Override
+    public DataType<?> type(final int code) {
+        final DataType<?> result;
+        if (code >= IndexedDataTypes.LOWEST
+            && code <= IndexedDataTypes.HIGHEST) {
+            final int slot = code - IndexedDataTypes.LOWEST;
+            final DataType<?> found = this.table.get(slot);
+            if (found == null) {
+                result = this.matched(code);
+                this.table.lazySet(slot, result);
+            } else {
+                result = found;
+            }
+        } else {
+            result = this.matched(code);
+        }
+        return result;
+    }
+
+    @Override
+    public Iterator<DataType<?>> iterator() {
+        return this.types.iterator();
+    }
+
+    /**
+     * Ask the types for the first that matches the code.
+     * @param code The code
+     * @return The DataType
+     */
+    private DataType<?> matched(final int code) {
+        DataType<?> result = this.def;
+        for (final DataType<?> type : this.types) {
+            if (type.match(code)) {
+                result = type;
+                break;
+            }
+        }
+        return result;
+    }
+}
@@ -42,10 +42,16 @@ public interface QueryParams extends Iterable<QueryParam> {
     PreparedStatement prepare(PreparedStatement stmt) throws Exception;
 
     /**
-     * Check if QueryParams contains a param at position.
-     * @param name The name of the parameter
-     * @param pos The position of the parameter
-     * @return True if contains or false if don't
+     * Set the PreparedStatement with all data values, following a plan.
+     *
+     * <p>The plan has, for each param in order, the positions (starting at
+     * 1) where its value must be bound. A param can be bound to many
+     * positions or to none.</p>
+     * @param stmt The PreparedStatement
+     * @param plan Positions of each param
+     * @return The setted PreparedStatement
+     * @throws Exception If fails
      */
-    boolean contains(String name, int pos);
+    PreparedStatement prepare(PreparedStatement stmt, int[][] plan)
+        throws Exception;
 }
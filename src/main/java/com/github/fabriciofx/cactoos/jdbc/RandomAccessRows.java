@@ -0,0 +1,53 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc;
+
+/**
+ * Rows kept whole, so any cell can be read at any time.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.3
+ */
+public interface RandomAccessRows extends Rows {
+    /**
+     * Get the data in row and column.
+     * @param row The row number
+     * @param column The column number
+     * @param <T> The data type
+     * @return The data
+     * @throws Exception if fails
+     */
+    <T> T data(int row, int column) throws Exception;
+
+    /**
+     * Get the data in row and column.
+     * @param row The row number
+     * @param column The column name
+     * @param <T> The data type
+     * @return The data
+     * @throws Exception if fails
+     */
+    <T> T data(int row, String column) throws Exception;
+}
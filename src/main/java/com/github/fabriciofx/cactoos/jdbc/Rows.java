@@ -23,25 +23,33 @@
  */
 package com.github.fabriciofx.cactoos.jdbc;
 
+import java.sql.SQLException;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Rows.
  *
- * Represent a set of name and values retrieved from a database.
+ * Represent a set of name and values retrieved from a database, to be
+ * closed when no longer needed. Rows read at random are
+ * {@link RandomAccessRows}.
  *
  * <p>There is no thread-safety guarantee.
  *
  * @since 0.1
  */
-public interface Rows extends Iterable<Map<String, Object>> {
+public interface Rows extends Iterable<Map<String, Object>>, AutoCloseable {
     /**
-     * Get the data in row and column.
-     * @param row The row number
-     * @param column The column number
-     * @param <T> The data type
-     * @return The data
+     * Names of the columns, the keys of each row, even if there are no rows.
+     * @return The column names
      * @throws Exception if fails
      */
-    <T> T data(int row, int column) throws Exception;
+    List<String> columns() throws Exception;
+
+    /**
+     * Release the resources held by these rows.
+     * @throws SQLException If fails
+     */
+    @Override
+    void close() throws SQLException;
 }
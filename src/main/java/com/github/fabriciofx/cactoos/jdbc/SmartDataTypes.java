@@ -35,11 +35,15 @@ import com.github.fabriciofx.cactoos.jdbc.type.TextType;
 import com.github.fabriciofx.cactoos.jdbc.type.UuidType;
 import java.util.Iterator;
 import java.util.List;
+import org.cactoos.list.Joined;
 import org.cactoos.list.ListOf;
 
 /**
  * Smart Data Types.
  *
+ * <p>Without custom types, all instances share the same built-in lookup
+ * table, so creating one per result costs nothing.</p>
+ *
  * <p>There is no thread-safety guarantee.
  *
  * @since 0.2
@@ -47,20 +51,64 @@ import org.cactoos.list.ListOf;
  */
 public final class SmartDataTypes implements DataTypes {
     /**
-     * Types.
+     * Built-in types, shared by all instances without custom types, so
+     * their lookup table is built and filled only once.
      */
-    private final List<DataType<?>> types;
+    private static final DataTypes BUILTIN = new IndexedDataTypes(
+        SmartDataTypes.builtin(),
+        new AnyType()
+    );
 
     /**
-     * Plain data type.
+     * Types.
      */
-    private final DataType<?> def;
+    private final DataTypes types;
 
     /**
      * Ctor.
+     * @param custom Custom types, that take precedence over the built-in ones
+     */
+    public SmartDataTypes(final DataType<?>... custom) {
+        this.types = SmartDataTypes.indexed(custom);
+    }
+
+    @Override
+    public DataType<?> type(final int code) {
+        return this.types.type(code);
+    }
+
+    @Override
+    public Iterator<DataType<?>> iterator() {
+        return this.types.iterator();
+    }
+
+    /**
+     * Index the custom types ahead of the built-in ones.
+     * @param custom Custom types
+     * @return The indexed types
      */
-    public SmartDataTypes() {
-        this.types = new ListOf<>(
+    private static DataTypes indexed(final DataType<?>... custom) {
+        final DataTypes types;
+        if (custom.length == 0) {
+            types = SmartDataTypes.BUILTIN;
+        } else {
+            types = new IndexedDataTypes(
+                new Joined<DataType<?>>(
+                    new ListOf<>(custom),
+                    SmartDataTypes.builtin()
+                ),
+                new AnyType()
+            );
+        }
+        return types;
+    }
+
+    /**
+     * The built-in types, in order of precedence.
+     * @return The types
+     */
+    private static List<DataType<?>> builtin() {
+        return new ListOf<>(
             new UuidType(),
             new TextType(),
             new IntType(),
@@ -71,23 +119,5 @@ public final class SmartDataTypes implements DataTypes {
             new LongType(),
             new RealType()
         );
-        this.def = new AnyType();
-    }
-
-    @Override
-    public DataType<?> type(final int code) {
-        DataType<?> result = this.def;
-        for (final DataType<?> type : this.types) {
-            if (type.match(code)) {
-                result = type;
-                break;
-            }
-        }
-        return result;
-    }
-
-    @Override
-    public Iterator<DataType<?>> iterator() {
-        return this.types.iterator();
     }
 }
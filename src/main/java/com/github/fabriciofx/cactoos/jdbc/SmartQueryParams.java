@@ -68,8 +68,18 @@ public final class SmartQueryParams implements QueryParams {
     }
 
     @Override
-    public boolean contains(final String name, final int pos) {
-        return this.params.value().get(pos).name().equals(name);
+    public PreparedStatement prepare(
+        final PreparedStatement stmt,
+        final int[][] plan
+    ) throws Exception {
+        int idx = 0;
+        for (final QueryParam param : this.params.value()) {
+            for (final int pos : plan[idx]) {
+                param.prepare(stmt, pos);
+            }
+            ++idx;
+        }
+        return stmt;
     }
 
     @Override
@@ -0,0 +1,63 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.cache;
+
+import com.github.fabriciofx.cactoos.jdbc.query.SqlTables;
+import java.sql.Connection;
+import org.cactoos.Proc;
+import org.cactoos.Text;
+
+/**
+ * Tell a connection the tables written by a SQL statement.
+ *
+ * <p>It does nothing, without parsing the SQL, if the connection is not
+ * (nor wraps) an {@link InvalidatingConnection}.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 0.3
+ */
+public final class Invalidation implements Proc<Connection> {
+    /**
+     * The SQL written.
+     */
+    private final Text sql;
+
+    /**
+     * Ctor.
+     * @param text The SQL written
+     */
+    public Invalidation(final Text text) {
+        this.sql = text;
+    }
+
+    @Override
+    public void exec(final Connection conn) throws Exception {
+        if (conn.isWrapperFor(InvalidatingConnection.class)) {
+            conn.unwrap(InvalidatingConnection.class).written(
+                new SqlTables(this.sql.asString()).value()
+            );
+        }
+    }
+}
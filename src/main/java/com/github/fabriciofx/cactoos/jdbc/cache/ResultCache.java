@@ -0,0 +1,448 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.cache;
+
+import com.github.fabriciofx.cactoos.jdbc.Rows;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import org.cactoos.Scalar;
+
+/**
+ * A bounded cache of query results.
+ *
+ * <p>Entries live for a fixed time and the least recently used ones are
+ * evicted past a number of entries or of estimated bytes. Concurrent
+ * misses of a key load it once. Invalidating a table removes the results
+ * that depend on it. Results kept must be in-memory snapshots, such as the
+ * rows read by {@link com.github.fabriciofx.cactoos.jdbc.stmt.Select}.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @since 0.3
+ */
+@SuppressWarnings("PMD.AvoidCatchingGenericException")
+public final class ResultCache {
+    /**
+     * Max number of entries.
+     */
+    private final int max;
+
+    /**
+     * Max number of bytes retained.
+     */
+    private final long capacity;
+
+    /**
+     * Nanoseconds an entry lives.
+     */
+    private final long ttl;
+
+    /**
+     * Entries by key.
+     */
+    private final Map<String, ResultCache.Entry> entries;
+
+    /**
+     * Loads in progress, by key.
+     */
+    private final Map<String, CompletableFuture<Rows>> loading;
+
+    /**
+     * Guards the changes to the entries, except removing expired ones.
+     */
+    private final Lock lock;
+
+    /**
+     * Number of invalidations so far.
+     */
+    private final AtomicLong version;
+
+    /**
+     * Number of bytes retained.
+     */
+    private final AtomicLong weight;
+
+    /**
+     * Number of hits.
+     */
+    private final AtomicLong hit;
+
+    /**
+     * Number of misses.
+     */
+    private final AtomicLong miss;
+
+    /**
+     * Ctor.
+     */
+    public ResultCache() {
+        // @checkstyle MagicNumber (1 line)
+        this(1024, 64L << 20, 60_000L);
+    }
+
+    /**
+     * Ctor.
+     * @param size Max number of entries
+     * @param bytes Max number of bytes retained (estimated)
+     * @param millis Milliseconds an entry lives
+     */
+    public ResultCache(final int size, final long bytes, final long millis) {
+        this.max = size;
+        this.capacity = bytes;
+        this.ttl = TimeUnit.MILLISECONDS.toNanos(millis);
+        this.entries = new ConcurrentHashMap<>();
+        this.loading = new ConcurrentHashMap<>();
+        this.lock = new ReentrantLock();
+        this.version = new AtomicLong();
+        this.weight = new AtomicLong();
+        this.hit = new AtomicLong();
+        this.miss = new AtomicLong();
+    }
+
+    /**
+     * Get the result of a key, loading it if not cached.
+     * @param key The key
+     * @param load Loads the result
+     * @return The result
+     * @throws Exception If the load fails
+     */
+    public Rows rows(final String key, final Scalar<Rows> load)
+        throws Exception {
+        return this.rows(key, Collections::emptySet, load);
+    }
+
+    /**
+     * Get the result of a key, loading it if not cached.
+     * @param key The key
+     * @param tables The tables the result depends on, found on a miss
+     * @param load Loads the result
+     * @return The result
+     * @throws Exception If the load fails
+     */
+    public Rows rows(
+        final String key,
+        final Scalar<Set<String>> tables,
+        final Scalar<Rows> load
+    ) throws Exception {
+        Rows rows = this.cached(key);
+        if (rows == null) {
+            final CompletableFuture<Rows> mine = new CompletableFuture<>();
+            final CompletableFuture<Rows> other =
+                this.loading.putIfAbsent(key, mine);
+            if (other == null) {
+                try {
+                    rows = this.cached(key);
+                    if (rows == null) {
+                        this.miss.incrementAndGet();
+                        final long before = this.version.get();
+                        rows = load.value();
+                        this.put(key, tables.value(), rows, before);
+                    }
+                    mine.complete(rows);
+                    // @checkstyle IllegalCatchCheck (1 line)
+                } catch (final Exception ex) {
+                    mine.completeExceptionally(ex);
+                    throw ex;
+                } finally {
+                    this.loading.remove(key, mine);
+                }
+            } else {
+                rows = ResultCache.await(other);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Remove the results that depend on any of the tables.
+     * @param tables The tables
+     */
+    public void invalidate(final Collection<String> tables) {
+        if (!tables.isEmpty()) {
+            this.lock.lock();
+            try {
+                this.version.incrementAndGet();
+                for (final Map.Entry<String, ResultCache.Entry> entry
+                    : this.entries.entrySet()) {
+                    if (!Collections.disjoint(
+                        entry.getValue().tables,
+                        tables
+                    )) {
+                        this.remove(entry.getKey(), entry.getValue());
+                    }
+                }
+            } finally {
+                this.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Remove all entries.
+     */
+    public void clear() {
+        this.lock.lock();
+        try {
+            this.version.incrementAndGet();
+            for (final Map.Entry<String, ResultCache.Entry> entry
+                : this.entries.entrySet()) {
+                this.remove(entry.getKey(), entry.getValue());
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Number of lookups that found the result cached.
+     * @return The number of hits
+     */
+    public long hits() {
+        return this.hit.get();
+    }
+
+    /**
+     * Number of lookups that had to load the result.
+     * @return The number of misses
+     */
+    public long misses() {
+        return this.miss.get();
+    }
+
+    /**
+     * Number of entries cached.
+     * @return The number of entries
+     */
+    public int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Estimated number of bytes retained.
+     * @return The number of bytes
+     */
+    public long bytes() {
+        return this.weight.get();
+    }
+
+    /**
+     * The result cached for a key, if it has not expired.
+     * @param key The key
+     * @return The result or null if not cached
+     */
+    private Rows cached(final String key) {
+        Rows rows = null;
+        final ResultCache.Entry entry = this.entries.get(key);
+        if (entry != null) {
+            final long now = System.nanoTime();
+            if (now - entry.born < this.ttl) {
+                entry.used.lazySet(now);
+                rows = entry.rows;
+            } else {
+                this.remove(key, entry);
+            }
+        }
+        if (rows != null) {
+            this.hit.incrementAndGet();
+        }
+        return rows;
+    }
+
+    /**
+     * Cache a result, evicting the least recently used entries if needed.
+     * It is not cached if anything was invalidated while it was loaded.
+     * @param key The key
+     * @param tables The tables the result depends on
+     * @param rows The result
+     * @param loaded Number of invalidations when its load started
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private void put(
+        final String key,
+        final Set<String> tables,
+        final Rows rows,
+        final long loaded
+    ) {
+        final long bytes = ResultCache.weigh(rows);
+        if (this.max > 0 && bytes <= this.capacity) {
+            this.lock.lock();
+            try {
+                if (this.version.get() == loaded) {
+                    final ResultCache.Entry prev = this.entries.put(
+                        key,
+                        new ResultCache.Entry(
+                            rows,
+                            tables,
+                            bytes,
+                            System.nanoTime()
+                        )
+                    );
+                    if (prev != null) {
+                        this.weight.addAndGet(-prev.bytes);
+                    }
+                    this.weight.addAndGet(bytes);
+                    while (!this.entries.isEmpty()
+                        && (this.entries.size() > this.max
+                        || this.weight.get() > this.capacity)) {
+                        this.evict();
+                    }
+                }
+            } finally {
+                this.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Remove the least recently used entry.
+     */
+    private void evict() {
+        Map.Entry<String, ResultCache.Entry> eldest = null;
+        for (final Map.Entry<String, ResultCache.Entry> entry
+            : this.entries.entrySet()) {
+            if (eldest == null
+                || entry.getValue().used.get() < eldest.getValue().used.get()) {
+                eldest = entry;
+            }
+        }
+        if (eldest != null) {
+            this.remove(eldest.getKey(), eldest.getValue());
+        }
+    }
+
+    /**
+     * Remove an entry, unless it was already removed or replaced.
+     * @param key The key
+     * @param entry The entry
+     */
+    private void remove(final String key, final ResultCache.Entry entry) {
+        if (this.entries.remove(key, entry)) {
+            this.weight.addAndGet(-entry.bytes);
+        }
+    }
+
+    /**
+     * Wait for the result loaded by another thread.
+     * @param future The load
+     * @return The result
+     * @throws Exception If the load fails
+     */
+    private static Rows await(final CompletableFuture<Rows> future)
+        throws Exception {
+        try {
+            return future.join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof Exception) {
+                throw (Exception) ex.getCause();
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Estimate the number of bytes retained by a result.
+     * @param rows The result
+     * @return The number of bytes
+     * @checkstyle MagicNumber (30 lines)
+     */
+    private static long weigh(final Rows rows) {
+        long bytes = 64L;
+        for (final Map<String, Object> row : rows) {
+            bytes += 32L;
+            for (final Object value : row.values()) {
+                bytes += 8L;
+                if (value instanceof CharSequence) {
+                    bytes += 40L + 2L * ((CharSequence) value).length();
+                } else if (value instanceof byte[]) {
+                    bytes += 16L + ((byte[]) value).length;
+                } else if (value != null) {
+                    bytes += 24L;
+                }
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * A cached result.
+     *
+     * @since 0.3
+     */
+    private static final class Entry {
+        /**
+         * The result.
+         */
+        private final Rows rows;
+
+        /**
+         * The tables the result depends on.
+         */
+        private final Set<String> tables;
+
+        /**
+         * Estimated number of bytes retained.
+         */
+        private final long bytes;
+
+        /**
+         * When it was cached, in nanoseconds.
+         */
+        private final long born;
+
+        /**
+         * When it was last used, in nanoseconds.
+         */
+        private final AtomicLong used;
+
+        /**
+         * Ctor.
+         * @param rws The result
+         * @param tbls The tables the result depends on
+         * @param size Estimated number of bytes retained
+         * @param time When it was cached, in nanoseconds
+         * @checkstyle ParameterNumberCheck (10 lines)
+         */
+        Entry(
+            final Rows rws,
+            final Set<String> tbls,
+            final long size,
+            final long time
+        ) {
+            this.rows = rws;
+            this.tables = tbls;
+            this.bytes = size;
+            this.born = time;
+            this.used = new AtomicLong(time);
+        }
+    }
+}
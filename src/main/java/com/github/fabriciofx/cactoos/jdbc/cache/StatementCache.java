@@ -0,0 +1,193 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.cache;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import org.cactoos.Scalar;
+
+/**
+ * Idle prepared statements of a physical connection.
+ *
+ * <p>Statements are kept by a key, usually their SQL; past the max number
+ * of idle statements, the least recently used one is closed.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @since 0.3
+ */
+@SuppressWarnings(
+    {
+        "PMD.AvoidCatchingGenericException",
+        "PMD.CloseResource"
+    }
+)
+public final class StatementCache {
+    /**
+     * Max number of idle statements.
+     */
+    private final int max;
+
+    /**
+     * Idle statements, by key, from the least to the most recently used.
+     */
+    private final Map<String, PreparedStatement> idle;
+
+    /**
+     * Lock for the idle statements.
+     */
+    private final Lock lock;
+
+    /**
+     * Number of statements taken from the cache.
+     */
+    private final AtomicLong hits;
+
+    /**
+     * Number of statements prepared because they were not in the cache.
+     */
+    private final AtomicLong misses;
+
+    /**
+     * Ctor.
+     * @param max Max number of idle statements
+     */
+    public StatementCache(final int max) {
+        this(max, new AtomicLong(), new AtomicLong());
+    }
+
+    /**
+     * Ctor.
+     * @param max Max number of idle statements
+     * @param hits Number of statements taken from the cache
+     * @param misses Number of statements not found in the cache
+     */
+    public StatementCache(
+        final int max,
+        final AtomicLong hits,
+        final AtomicLong misses
+    ) {
+        this.max = max;
+        // @checkstyle MagicNumber (1 line)
+        this.idle = new LinkedHashMap<>(16, 0.75f, true);
+        this.lock = new ReentrantLock();
+        this.hits = hits;
+        this.misses = misses;
+    }
+
+    /**
+     * Take a statement from the cache or prepare a new one.
+     * @param key The key of the statement
+     * @param prepare How to prepare a new statement
+     * @return A statement that goes back to the cache when closed
+     * @throws SQLException If fails
+     */
+    public PreparedStatement statement(
+        final String key,
+        final Scalar<PreparedStatement> prepare
+    ) throws SQLException {
+        PreparedStatement stmt;
+        this.lock.lock();
+        try {
+            stmt = this.idle.remove(key);
+        } finally {
+            this.lock.unlock();
+        }
+        if (stmt == null) {
+            this.misses.incrementAndGet();
+            try {
+                stmt = prepare.value();
+            } catch (final SQLException ex) {
+                throw ex;
+                // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final Exception ex) {
+                throw new SQLException(ex);
+            }
+        } else {
+            this.hits.incrementAndGet();
+        }
+        return new CachedPreparedStatement(
+            stmt,
+            closed -> this.release(key, closed)
+        );
+    }
+
+    /**
+     * Close all idle statements.
+     * @throws SQLException If fails
+     */
+    public void clear() throws SQLException {
+        this.lock.lock();
+        try {
+            for (final PreparedStatement stmt : this.idle.values()) {
+                stmt.close();
+            }
+            this.idle.clear();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Put a statement back in the cache.
+     * @param key The key of the statement
+     * @param stmt The statement
+     * @throws SQLException If fails
+     */
+    private void release(final String key, final PreparedStatement stmt)
+        throws SQLException {
+        if (!stmt.isClosed()) {
+            boolean keep = true;
+            try {
+                stmt.clearParameters();
+                stmt.clearBatch();
+                keep = !stmt.getConnection().isClosed();
+            } catch (final SQLException ex) {
+                keep = false;
+            }
+            this.lock.lock();
+            try {
+                if (keep && !this.idle.containsKey(key)) {
+                    this.idle.put(key, stmt);
+                    final Iterator<PreparedStatement> lru =
+                        this.idle.values().iterator();
+                    while (this.idle.size() > this.max) {
+                        lru.next().close();
+                        lru.remove();
+                    }
+                } else {
+                    stmt.close();
+                }
+            } finally {
+                this.lock.unlock();
+            }
+        }
+    }
+}
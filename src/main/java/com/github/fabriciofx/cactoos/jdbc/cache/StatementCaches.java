@@ -0,0 +1,115 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.cache;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Idle prepared statements, by physical connection.
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @since 0.3
+ */
+public final class StatementCaches {
+    /**
+     * Max number of idle statements per connection.
+     */
+    private final int max;
+
+    /**
+     * Number of statements taken from the cache.
+     */
+    private final AtomicLong hit;
+
+    /**
+     * Number of statements not found in the cache.
+     */
+    private final AtomicLong miss;
+
+    /**
+     * Idle statements, by physical connection.
+     */
+    private final Map<Connection, StatementCache> caches;
+
+    /**
+     * Ctor.
+     * @param max Max number of idle statements per connection
+     */
+    public StatementCaches(final int max) {
+        this.max = max;
+        this.hit = new AtomicLong();
+        this.miss = new AtomicLong();
+        this.caches = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Idle statements of a physical connection.
+     * @param physical The physical connection
+     * @return Its idle statements
+     */
+    public StatementCache cache(final Connection physical) {
+        return this.caches.computeIfAbsent(
+            physical,
+            conn -> new StatementCache(this.max, this.hit, this.miss)
+        );
+    }
+
+    /**
+     * Close the idle statements of the closed physical connections.
+     * @throws SQLException If fails
+     */
+    public void prune() throws SQLException {
+        final Iterator<Map.Entry<Connection, StatementCache>> entries =
+            this.caches.entrySet().iterator();
+        while (entries.hasNext()) {
+            final Map.Entry<Connection, StatementCache> entry = entries.next();
+            if (entry.getKey().isClosed()) {
+                entries.remove();
+                entry.getValue().clear();
+            }
+        }
+    }
+
+    /**
+     * Number of statements taken from the cache, in all connections.
+     * @return The number of hits
+     */
+    public long hits() {
+        return this.hit.get();
+    }
+
+    /**
+     * Number of statements not found in the cache, in all connections.
+     * @return The number of misses
+     */
+    public long misses() {
+        return this.miss.get();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.concurrent;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.cactoos.Scalar;
+
+/**
+ * Executor that runs each task on a new virtual thread.
+ *
+ * <p>Before Java 21 it falls back to a fixed pool of platform threads.
+ * Every call to {@link #value()} gives a new executor, to be shut down by
+ * the caller.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @since 0.3
+ */
+public final class VirtualThreads implements Scalar<ExecutorService> {
+    /**
+     * Number of platform threads when there are no virtual threads.
+     */
+    private final int fallback;
+
+    /**
+     * Ctor.
+     */
+    public VirtualThreads() {
+        this(Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    /**
+     * Ctor.
+     * @param threads Number of platform threads when there are no virtual
+     *  threads
+     */
+    public VirtualThreads(final int threads) {
+        this.fallback = threads;
+    }
+
+    @Override
+    public ExecutorService value() throws Exception {
+        ExecutorService executor;
+        try {
+            final Method virtual = Executors.class.getMethod(
+                "newVirtualThreadPerTaskExecutor"
+            );
+            executor = (ExecutorService) virtual.invoke(null);
+        } catch (final NoSuchMethodException ex) {
+            executor = Executors.newFixedThreadPool(this.fallback);
+        }
+        return executor;
+    }
+}
@@ -23,6 +23,8 @@
  */
 package com.github.fabriciofx.cactoos.jdbc.log;
 
+import com.github.fabriciofx.cactoos.jdbc.Physical;
+import com.github.fabriciofx.cactoos.jdbc.PhysicalOf;
 import java.sql.Array;
 import java.sql.Blob;
 import java.sql.CallableStatement;
@@ -67,7 +69,7 @@ import org.cactoos.text.UncheckedText;
         "PMD.AvoidDuplicateLiterals"
     }
 )
-public final class LoggedConnection implements Connection {
+public final class LoggedConnection implements Connection, Physical {
     /**
      * The connection.
      */
@@ -703,4 +705,9 @@ public final class LoggedConnection implements Connection {
     public boolean isWrapperFor(final Class<?> iface) throws SQLException {
         return this.origin.isWrapperFor(iface);
     }
+
+    @Override
+    public Connection physical(final String sql) throws SQLException {
+        return new PhysicalOf(this.origin).physical(sql);
+    }
 }
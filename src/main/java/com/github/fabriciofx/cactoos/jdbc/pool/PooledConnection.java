@@ -0,0 +1,622 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.pool;
+
+import com.github.fabriciofx.cactoos.jdbc.Physical;
+import com.github.fabriciofx.cactoos.jdbc.PhysicalOf;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.NClob;
+import java.sql.PreparedStatement;
+import java.sql.SQLClientInfoException;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.sql.Struct;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.cactoos.Proc;
+
+/**
+ * Pooled connection.
+ *
+ * <p>Closing it hands the physical connection back to its owner, once,
+ * with its statements closed, its transaction rolled back and its settings
+ * restored. Once closed, it can't be used anymore.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 0.3
+ * @checkstyle ParameterNameCheck (500 lines)
+ * @checkstyle ParameterNumberCheck (500 lines)
+ * @checkstyle TooManyMethods (500 lines)
+ */
+@SuppressWarnings(
+    {
+        "PMD.TooManyMethods",
+        "PMD.LongVariable",
+        "PMD.UseVarargs",
+        "PMD.BooleanGetMethodName",
+        "PMD.ExcessivePublicCount",
+        "PMD.AvoidCatchingGenericException"
+    }
+)
+public final class PooledConnection implements Connection, Physical {
+    /**
+     * The connection.
+     */
+    private final Connection origin;
+
+    /**
+     * What to do with the connection when it is closed.
+     */
+    private final Proc<Connection> back;
+
+    /**
+     * Is it closed?
+     */
+    private final AtomicBoolean closed;
+
+    /**
+     * Statements opened through this connection.
+     */
+    private final Queue<Statement> statements;
+
+    /**
+     * Read-only flag before it was first changed, null if unchanged.
+     */
+    private final AtomicReference<Boolean> readonly;
+
+    /**
+     * Transaction isolation before it was first changed, null if unchanged.
+     */
+    private final AtomicReference<Integer> isolation;
+
+    /**
+     * Catalog before it was first changed, null if unchanged.
+     */
+    private final AtomicReference<Optional<String>> catalog;
+
+    /**
+     * Ctor.
+     * @param connection A physical Connection
+     * @param release What to do with the connection when it is closed
+     */
+    public PooledConnection(
+        final Connection connection,
+        final Proc<Connection> release
+    ) {
+        this.origin = connection;
+        this.back = release;
+        this.closed = new AtomicBoolean();
+        this.statements = new ConcurrentLinkedQueue<>();
+        this.readonly = new AtomicReference<>();
+        this.isolation = new AtomicReference<>();
+        this.catalog = new AtomicReference<>();
+    }
+
+    @Override
+    public Statement createStatement() throws SQLException {
+        return this.tracked(this.open().createStatement());
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(final String sql) throws
+        SQLException {
+        return this.tracked(this.open().prepareStatement(sql));
+    }
+
+    @Override
+    public CallableStatement prepareCall(final String sql) throws SQLException {
+        return this.tracked(this.open().prepareCall(sql));
+    }
+
+    @Override
+    public String nativeSQL(final String sql) throws SQLException {
+        return this.open().nativeSQL(sql);
+    }
+
+    @Override
+    public void setAutoCommit(final boolean autoCommit) throws SQLException {
+        this.open().setAutoCommit(autoCommit);
+    }
+
+    @Override
+    public boolean getAutoCommit() throws SQLException {
+        return this.open().getAutoCommit();
+    }
+
+    @Override
+    public void commit() throws SQLException {
+        this.open().commit();
+    }
+
+    @Override
+    public void rollback() throws SQLException {
+        this.open().rollback();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (this.closed.compareAndSet(false, true)) {
+            try {
+                this.reset();
+            } catch (final SQLException ex) {
+                this.origin.close();
+                throw ex;
+            } finally {
+                this.handback();
+            }
+        }
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        return this.closed.get() || this.origin.isClosed();
+    }
+
+    @Override
+    public DatabaseMetaData getMetaData() throws SQLException {
+        return this.open().getMetaData();
+    }
+
+    @Override
+    public void setReadOnly(final boolean readOnly) throws SQLException {
+        final Connection conn = this.open();
+        if (this.readonly.get() == null) {
+            this.readonly.set(conn.isReadOnly());
+        }
+        conn.setReadOnly(readOnly);
+    }
+
+    @Override
+    public boolean isReadOnly() throws SQLException {
+        return this.open().isReadOnly();
+    }
+
+    @Override
+    public void setCatalog(final String catalog) throws SQLException {
+        final Connection conn = this.open();
+        if (this.catalog.get() == null) {
+            this.catalog.set(Optional.ofNullable(conn.getCatalog()));
+        }
+        conn.setCatalog(catalog);
+    }
+
+    @Override
+    public String getCatalog() throws SQLException {
+        return this.open().getCatalog();
+    }
+
+    @Override
+    public void setTransactionIsolation(final int level) throws SQLException {
+        final Connection conn = this.open();
+        if (this.isolation.get() == null) {
+            this.isolation.set(conn.getTransactionIsolation());
+        }
+        conn.setTransactionIsolation(level);
+    }
+
+    @Override
+    public int getTransactionIsolation() throws SQLException {
+        return this.open().getTransactionIsolation();
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        return this.open().getWarnings();
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        this.open().clearWarnings();
+    }
+
+    @Override
+    public Statement createStatement(
+        final int resultSetType,
+        final int resultSetConcurrency
+    ) throws SQLException {
+        return this.tracked(
+            this.open().createStatement(resultSetType, resultSetConcurrency)
+        );
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(
+        final String sql,
+        final int resultSetType,
+        final int resultSetConcurrency
+    ) throws SQLException {
+        return this.tracked(
+            this.open().prepareStatement(
+                sql,
+                resultSetType,
+                resultSetConcurrency
+            )
+        );
+    }
+
+    @Override
+    public CallableStatement prepareCall(
+        final String sql,
+        final int resultSetType,
+        final int resultSetConcurrency
+    ) throws SQLException {
+        return this.tracked(
+            this.open().prepareCall(
+                sql,
+                resultSetType,
+                resultSetConcurrency
+            )
+        );
+    }
+
+    @Override
+    public Map<String, Class<?>> getTypeMap() throws SQLException {
+        return this.open().getTypeMap();
+    }
+
+    @Override
+    public void setTypeMap(final Map<String, Class<?>> map) throws
+        SQLException {
+        this.open().setTypeMap(map);
+    }
+
+    @Override
+    public void setHoldability(final int holdability) throws SQLException {
+        this.open().setHoldability(holdability);
+    }
+
+    @Override
+    public int getHoldability() throws SQLException {
+        return this.open().getHoldability();
+    }
+
+    @Override
+    public Savepoint setSavepoint() throws SQLException {
+        return this.open().setSavepoint();
+    }
+
+    @Override
+    public Savepoint setSavepoint(final String name) throws SQLException {
+        return this.open().setSavepoint(name);
+    }
+
+    @Override
+    public void rollback(final Savepoint savepoint) throws SQLException {
+        this.open().rollback(savepoint);
+    }
+
+    @Override
+    public void releaseSavepoint(
+        final Savepoint savepoint
+    ) throws SQLException {
+        this.open().releaseSavepoint(savepoint);
+    }
+
+    @Override
+    public Statement createStatement(
+        final int resultSetType,
+        final int resultSetConcurrency,
+        final int resultSetHoldability
+    ) throws SQLException {
+        return this.tracked(
+            this.open().createStatement(
+                resultSetType,
+                resultSetConcurrency,
+                resultSetHoldability
+            )
+        );
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(
+        final String sql,
+        final int resultSetType,
+        final int resultSetConcurrency,
+        final int resultSetHoldability
+    ) throws SQLException {
+        return this.tracked(
+            this.open().prepareStatement(
+                sql,
+                resultSetType,
+                resultSetConcurrency,
+                resultSetHoldability
+            )
+        );
+    }
+
+    @Override
+    public CallableStatement prepareCall(
+        final String sql,
+        final int resultSetType,
+        final int resultSetConcurrency,
+        final int resultSetHoldability
+    ) throws SQLException {
+        return this.tracked(
+            this.open().prepareCall(
+                sql,
+                resultSetType,
+                resultSetConcurrency,
+                resultSetHoldability
+            )
+        );
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(
+        final String sql,
+        final int autoGeneratedKeys
+    ) throws SQLException {
+        return this.tracked(
+            this.open().prepareStatement(sql, autoGeneratedKeys)
+        );
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(
+        final String sql,
+        final int[] columnIndexes
+    ) throws SQLException {
+        return this.tracked(this.open().prepareStatement(sql, columnIndexes));
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(
+        final String sql,
+        final String[] columnNames
+    ) throws SQLException {
+        return this.tracked(this.open().prepareStatement(sql, columnNames));
+    }
+
+    @Override
+    public Clob createClob() throws SQLException {
+        return this.open().createClob();
+    }
+
+    @Override
+    public Blob createBlob() throws SQLException {
+        return this.open().createBlob();
+    }
+
+    @Override
+    public NClob createNClob() throws SQLException {
+        return this.open().createNClob();
+    }
+
+    @Override
+    public SQLXML createSQLXML() throws SQLException {
+        return this.open().createSQLXML();
+    }
+
+    @Override
+    public boolean isValid(final int timeout) throws SQLException {
+        return !this.closed.get() && this.origin.isValid(timeout);
+    }
+
+    @Override
+    public void setClientInfo(
+        final String name,
+        final String value
+    ) throws SQLClientInfoException {
+        if (this.closed.get()) {
+            throw new SQLClientInfoException(
+                "The connection has been closed",
+                Collections.emptyMap()
+            );
+        }
+        this.origin.setClientInfo(name, value);
+    }
+
+    @Override
+    public void setClientInfo(
+        final Properties properties
+    ) throws SQLClientInfoException {
+        if (this.closed.get()) {
+            throw new SQLClientInfoException(
+                "The connection has been closed",
+                Collections.emptyMap()
+            );
+        }
+        this.origin.setClientInfo(properties);
+    }
+
+    @Override
+    public String getClientInfo(final String name) throws SQLException {
+        return this.open().getClientInfo(name);
+    }
+
+    @Override
+    public Properties getClientInfo() throws SQLException {
+        return this.open().getClientInfo();
+    }
+
+    @Override
+    public Array createArrayOf(
+        final String typeName,
+        final Object[] elements
+    ) throws SQLException {
+        return this.open().createArrayOf(typeName, elements);
+    }
+
+    @Override
+    public Struct createStruct(
+        final String typeName,
+        final Object[] attributes
+    ) throws SQLException {
+        return this.open().createStruct(typeName, attributes);
+    }
+
+    @Override
+    public void setSchema(final String schema) throws SQLException {
+        this.open().setSchema(schema);
+    }
+
+    @Override
+    public String getSchema() throws SQLException {
+        return this.open().getSchema();
+    }
+
+    @Override
+    public void abort(final Executor executor) throws SQLException {
+        this.open().abort(executor);
+    }
+
+    @Override
+    public void setNetworkTimeout(
+        final Executor executor,
+        final int milliseconds
+    ) throws SQLException {
+        this.open().setNetworkTimeout(executor, milliseconds);
+    }
+
+    @Override
+    public int getNetworkTimeout() throws SQLException {
+        return this.open().getNetworkTimeout();
+    }
+
+    @Override
+    public <T> T unwrap(final Class<T> iface) throws SQLException {
+        return this.open().unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(final Class<?> iface) throws SQLException {
+        return this.open().isWrapperFor(iface);
+    }
+
+    @Override
+    public Connection physical(final String sql) throws SQLException {
+        return new PhysicalOf(this.open()).physical(sql);
+    }
+
+    /**
+     * The physical connection, if this one has not been closed yet.
+     * @return The physical connection
+     * @throws SQLException If this connection has been closed
+     */
+    private Connection open() throws SQLException {
+        if (this.closed.get()) {
+            throw new SQLException("The connection has been closed");
+        }
+        return this.origin;
+    }
+
+    /**
+     * Remember a statement, to close it when this connection is closed.
+     *
+     * <p>Statements are usually closed in the order they are opened, so
+     * the closed ones at the head are forgotten right away.</p>
+     * @param stmt A statement opened through this connection
+     * @param <T> Type of the statement
+     * @return The same statement
+     * @throws SQLException If fails
+     */
+    private <T extends Statement> T tracked(final T stmt) throws
+        SQLException {
+        Statement head = this.statements.peek();
+        while (head != null && head.isClosed()) {
+            this.statements.remove(head);
+            head = this.statements.peek();
+        }
+        this.statements.add(stmt);
+        return stmt;
+    }
+
+    /**
+     * Undo what has been done through this connection.
+     *
+     * <p>Closes the statements still open, rolls back the pending
+     * transaction and restores the auto-commit mode, the read-only flag,
+     * the transaction isolation and the catalog.</p>
+     * @throws SQLException If fails
+     */
+    private void reset() throws SQLException {
+        SQLException error = null;
+        for (final Statement stmt : this.statements) {
+            try {
+                if (!stmt.isClosed()) {
+                    stmt.close();
+                }
+            } catch (final SQLException ex) {
+                if (error == null) {
+                    error = ex;
+                } else {
+                    error.addSuppressed(ex);
+                }
+            }
+        }
+        this.statements.clear();
+        if (error != null) {
+            throw error;
+        }
+        if (!this.origin.isClosed()) {
+            if (!this.origin.getAutoCommit()) {
+                this.origin.rollback();
+                this.origin.setAutoCommit(true);
+            }
+            final Boolean ronly = this.readonly.get();
+            if (ronly != null) {
+                this.origin.setReadOnly(ronly);
+            }
+            final Integer level = this.isolation.get();
+            if (level != null) {
+                this.origin.setTransactionIsolation(level);
+            }
+            final Optional<String> ctlg = this.catalog.get();
+            if (ctlg != null && ctlg.isPresent()) {
+                this.origin.setCatalog(ctlg.get());
+            }
+        }
+    }
+
+    /**
+     * Hand the physical connection back to its owner.
+     * @throws SQLException If fails
+     */
+    private void handback() throws SQLException {
+        try {
+            this.back.exec(this.origin);
+        } catch (final SQLException ex) {
+            throw ex;
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            throw new SQLException(ex);
+        }
+    }
+}
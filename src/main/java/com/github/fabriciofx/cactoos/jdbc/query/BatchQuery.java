@@ -27,15 +27,20 @@ import com.github.fabriciofx.cactoos.jdbc.Query;
 import com.github.fabriciofx.cactoos.jdbc.QueryParams;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
-import java.util.List;
+import java.util.Iterator;
+import org.cactoos.Proc;
 import org.cactoos.Text;
 import org.cactoos.list.ListOf;
 
 /**
  * Batch query.
  *
+ * <p>The rows, all with the same names in the same order, are read only
+ * when the query is prepared; from an {@link Iterator}, only once.</p>
+ *
  * @since 0.1
  */
+@SuppressWarnings("PMD.AvoidCatchingGenericException")
 public final class BatchQuery implements Query {
     /**
      * SQL query.
@@ -43,9 +48,9 @@ public final class BatchQuery implements Query {
     private final Text sql;
 
     /**
-     * A list of SQL query parameters.
+     * Producer of the SQL query parameters of each row.
      */
-    private final List<QueryParams> params;
+    private final Proc<Proc<QueryParams>> rows;
 
     /**
      * Ctor.
@@ -62,26 +67,61 @@ public final class BatchQuery implements Query {
      * @param prms A list of SQL query parameters
      */
     public BatchQuery(final Text sql, final QueryParams... prms) {
-        this.sql = new ParsedSql(sql, prms[0]);
-        this.params = new ListOf<>(prms);
+        this(sql, new ListOf<>(prms));
+    }
+
+    /**
+     * Ctor.
+     * @param sql The SQL query
+     * @param prms The SQL query parameters of each row
+     */
+    public BatchQuery(final Text sql, final Iterator<QueryParams> prms) {
+        this(sql, () -> prms);
+    }
+
+    /**
+     * Ctor.
+     * @param sql The SQL query
+     * @param prms The SQL query parameters of each row
+     */
+    public BatchQuery(final Text sql, final Iterable<QueryParams> prms) {
+        this(
+            sql,
+            (Proc<Proc<QueryParams>>) row -> {
+                for (final QueryParams params : prms) {
+                    row.exec(params);
+                }
+            }
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param sql The SQL query
+     * @param producer Gives the SQL query parameters of each row to a proc
+     */
+    public BatchQuery(final Text sql, final Proc<Proc<QueryParams>> producer) {
+        this.sql = sql;
+        this.rows = producer;
     }
 
     @Override
     public PreparedStatement prepared(
         final Connection connection
     ) throws Exception {
-        final PreparedStatement stmt = connection.prepareStatement(
-            this.sql.asString()
-        );
-        for (final QueryParams prms : this.params) {
-            prms.prepare(stmt);
-            stmt.addBatch();
+        final BoundBatch batch = new BoundBatch(connection, this.sql);
+        try {
+            this.rows.exec(batch);
+            return batch.statement();
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            batch.close();
+            throw ex;
         }
-        return stmt;
     }
 
     @Override
     public String asString() throws Exception {
-        return this.sql.asString();
+        return SqlCache.GLOBAL.named(this.sql.asString()).sql();
     }
 }
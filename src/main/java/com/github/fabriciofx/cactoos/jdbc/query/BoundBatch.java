@@ -0,0 +1,150 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.query;
+
+import com.github.fabriciofx.cactoos.jdbc.QueryParams;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.cactoos.Proc;
+import org.cactoos.Text;
+
+/**
+ * Rows added, one by one, to the batch of a PreparedStatement.
+ *
+ * <p>The statement is prepared for the first row, so all rows must have
+ * the same names in the same order. Rows can be added after the batch is
+ * executed, to run it in many chunks.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.3
+ */
+public final class BoundBatch implements Proc<QueryParams>, AutoCloseable {
+    /**
+     * The connection.
+     */
+    private final Connection connection;
+
+    /**
+     * The SQL query.
+     */
+    private final Text sql;
+
+    /**
+     * The statement, once prepared.
+     */
+    private final AtomicReference<PreparedStatement> stmt;
+
+    /**
+     * The binding plan, once computed.
+     */
+    private final AtomicReference<int[][]> plan;
+
+    /**
+     * Number of rows added since the last execution.
+     */
+    private final AtomicInteger rows;
+
+    /**
+     * Ctor.
+     * @param conn The connection
+     * @param sql The SQL query
+     */
+    public BoundBatch(final Connection conn, final Text sql) {
+        this.connection = conn;
+        this.sql = sql;
+        this.stmt = new AtomicReference<>();
+        this.plan = new AtomicReference<>();
+        this.rows = new AtomicInteger();
+    }
+
+    @Override
+    public void exec(final QueryParams params) throws Exception {
+        if (this.stmt.get() == null) {
+            final ParsedSql parsed = new ParsedSql(this.sql, params);
+            this.stmt.set(
+                this.connection.prepareStatement(parsed.asString())
+            );
+            this.plan.set(parsed.plan());
+        }
+        final PreparedStatement prepared = this.stmt.get();
+        params.prepare(prepared, this.plan.get());
+        prepared.addBatch();
+        this.rows.incrementAndGet();
+    }
+
+    /**
+     * Number of rows added since the last execution.
+     * @return The number of rows
+     */
+    public int pending() {
+        return this.rows.get();
+    }
+
+    /**
+     * Execute the rows added since the last execution.
+     * @return The update counts
+     * @throws SQLException If fails
+     */
+    public int[] execute() throws SQLException {
+        final int[] counts;
+        if (this.rows.get() == 0) {
+            counts = new int[0];
+        } else {
+            counts = this.stmt.get().executeBatch();
+            this.rows.set(0);
+        }
+        return counts;
+    }
+
+    /**
+     * The statement with the rows added to its batch.
+     *
+     * <p>If no row was added, the statement is prepared from the SQL
+     * alone.</p>
+     * @return The statement
+     * @throws Exception If fails
+     */
+    public PreparedStatement statement() throws Exception {
+        if (this.stmt.get() == null) {
+            this.stmt.set(
+                this.connection.prepareStatement(
+                    SqlCache.GLOBAL.named(this.sql.asString()).sql()
+                )
+            );
+        }
+        return this.stmt.get();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        final PreparedStatement prepared = this.stmt.get();
+        if (prepared != null) {
+            prepared.close();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.query;
+
+import com.github.fabriciofx.cactoos.jdbc.Query;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Query that can be cancelled.
+ *
+ * <p>It keeps the statements it prepares, so {@link #cancel()} can call
+ * {@link PreparedStatement#cancel()} on them from another thread. Once
+ * cancelled, it can't be prepared anymore.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @since 0.3
+ */
+public final class CancelableQuery implements Query {
+    /**
+     * The query to be decorated.
+     */
+    private final Query origin;
+
+    /**
+     * Prepared statements.
+     */
+    private final Queue<PreparedStatement> statements;
+
+    /**
+     * Has it been cancelled?
+     */
+    private final AtomicBoolean cancelled;
+
+    /**
+     * Ctor.
+     * @param query The SQL query
+     */
+    public CancelableQuery(final Query query) {
+        this.origin = query;
+        this.statements = new ConcurrentLinkedQueue<>();
+        this.cancelled = new AtomicBoolean();
+    }
+
+    @Override
+    public PreparedStatement prepared(
+        final Connection connection
+    ) throws Exception {
+        if (this.cancelled.get()) {
+            throw new SQLException("The query has been cancelled");
+        }
+        final PreparedStatement stmt = this.origin.prepared(connection);
+        this.statements.add(stmt);
+        if (this.cancelled.get()) {
+            stmt.cancel();
+        }
+        return stmt;
+    }
+
+    @Override
+    public String asString() throws Exception {
+        return this.origin.asString();
+    }
+
+    /**
+     * Cancel the statements prepared by this query that are still open.
+     * @throws SQLException If fails
+     */
+    public void cancel() throws SQLException {
+        this.cancelled.set(true);
+        for (final PreparedStatement stmt : this.statements) {
+            if (!stmt.isClosed()) {
+                stmt.cancel();
+            }
+        }
+    }
+
+    /**
+     * Has it been cancelled?
+     * @return True if it has
+     */
+    public boolean isCancelled() {
+        return this.cancelled.get();
+    }
+}
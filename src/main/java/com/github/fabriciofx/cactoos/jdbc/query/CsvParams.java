@@ -0,0 +1,229 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.query;
+
+import com.github.fabriciofx.cactoos.jdbc.QueryParam;
+import com.github.fabriciofx.cactoos.jdbc.QueryParams;
+import com.github.fabriciofx.cactoos.jdbc.SmartQueryParams;
+import com.github.fabriciofx.cactoos.jdbc.query.param.TextParam;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.cactoos.BiFunc;
+import org.cactoos.Proc;
+
+/**
+ * Query parameters read from a CSV (or TSV) file.
+ *
+ * <p>The first line has the parameter names and each other line one row,
+ * read as a stream. Fields follow RFC 4180 and an empty field not quoted
+ * is null. Fields are bound as text unless a function is given.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 0.3
+ */
+@SuppressWarnings(
+    {
+        "PMD.AvoidLiteralsInIfCondition",
+        "PMD.CyclomaticComplexity",
+        "PMD.StdCyclomaticComplexity",
+        "PMD.ModifiedCyclomaticComplexity"
+    }
+)
+public final class CsvParams implements Proc<Proc<QueryParams>> {
+    /**
+     * The file.
+     */
+    private final Path file;
+
+    /**
+     * Field separator.
+     */
+    private final char separator;
+
+    /**
+     * Makes a parameter from its name and field.
+     */
+    private final BiFunc<String, String, QueryParam> param;
+
+    /**
+     * Ctor.
+     * @param path The file
+     */
+    public CsvParams(final Path path) {
+        this(path, ',');
+    }
+
+    /**
+     * Ctor.
+     * @param path The file
+     * @param sep Field separator (use a tab for TSV)
+     */
+    public CsvParams(final Path path, final char sep) {
+        this(path, sep, TextParam::new);
+    }
+
+    /**
+     * Ctor.
+     * @param path The file
+     * @param sep Field separator (use a tab for TSV)
+     * @param prm Makes a parameter from its name and field
+     */
+    public CsvParams(
+        final Path path,
+        final char sep,
+        final BiFunc<String, String, QueryParam> prm
+    ) {
+        this.file = path;
+        this.separator = sep;
+        this.param = prm;
+    }
+
+    @Override
+    public void exec(final Proc<QueryParams> rows) throws Exception {
+        try (
+            final Reader reader = Files.newBufferedReader(
+                this.file,
+                StandardCharsets.UTF_8
+            )
+        ) {
+            final List<String> names = new ArrayList<>(0);
+            final List<String> fields = new ArrayList<>(0);
+            final StringBuilder field = new StringBuilder();
+            // @checkstyle MagicNumber (1 line)
+            final char[] buf = new char[1 << 16];
+            boolean quoting = false;
+            boolean quoted = false;
+            boolean closing = false;
+            int len = reader.read(buf);
+            while (len >= 0) {
+                for (int idx = 0; idx < len; ++idx) {
+                    final char chr = buf[idx];
+                    if (closing && chr == '"') {
+                        field.append(chr);
+                        quoting = true;
+                        closing = false;
+                    } else if (quoting) {
+                        if (chr == '"') {
+                            quoting = false;
+                            closing = true;
+                        } else {
+                            field.append(chr);
+                        }
+                    } else {
+                        closing = false;
+                        if (chr == this.separator) {
+                            fields.add(CsvParams.value(field, quoted));
+                            quoted = false;
+                        } else if (chr == '\n') {
+                            fields.add(CsvParams.value(field, quoted));
+                            quoted = false;
+                            this.record(names, fields, rows);
+                        } else if (chr == '"' && field.length() == 0
+                            && !quoted) {
+                            quoting = true;
+                            quoted = true;
+                        } else if (chr != '\r') {
+                            field.append(chr);
+                        }
+                    }
+                }
+                len = reader.read(buf);
+            }
+            if (quoting) {
+                throw new IllegalArgumentException(
+                    String.format("Unclosed quote in %s", this.file)
+                );
+            }
+            if (field.length() > 0 || quoted || !fields.isEmpty()) {
+                fields.add(CsvParams.value(field, quoted));
+                this.record(names, fields, rows);
+            }
+        }
+    }
+
+    /**
+     * Handle the fields of a line: the names, if the first line, or a row.
+     * Blank lines are skipped, unless there is a single column, where they
+     * are rows with a null.
+     * @param names The names, empty until the first line is read
+     * @param fields The fields, cleared after being handled
+     * @param rows Where to give the rows
+     * @throws Exception If fails
+     */
+    private void record(
+        final List<String> names,
+        final List<String> fields,
+        final Proc<QueryParams> rows
+    ) throws Exception {
+        if (fields.size() > 1 || fields.get(0) != null || names.size() == 1) {
+            if (names.isEmpty()) {
+                names.addAll(fields);
+            } else if (fields.size() == names.size()) {
+                final QueryParam[] params = new QueryParam[fields.size()];
+                for (int idx = 0; idx < params.length; ++idx) {
+                    params[idx] = this.param.apply(
+                        names.get(idx),
+                        fields.get(idx)
+                    );
+                }
+                rows.exec(new SmartQueryParams(params));
+            } else {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "A line of %s has %d fields, but %d were expected",
+                        this.file,
+                        fields.size(),
+                        names.size()
+                    )
+                );
+            }
+        }
+        fields.clear();
+    }
+
+    /**
+     * The value of a field, clearing it.
+     * @param field The field
+     * @param quoted Was it quoted?
+     * @return The value, null if empty and not quoted
+     */
+    private static String value(
+        final StringBuilder field,
+        final boolean quoted
+    ) {
+        final String value;
+        if (field.length() == 0 && !quoted) {
+            value = null;
+        } else {
+            value = field.toString();
+        }
+        field.setLength(0);
+        return value;
+    }
+}
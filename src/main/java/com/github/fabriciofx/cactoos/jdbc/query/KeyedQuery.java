@@ -40,7 +40,7 @@ public final class KeyedQuery implements Query {
     /**
      * SQL query.
      */
-    private final Text sql;
+    private final ParsedSql sql;
 
     /**
      * Primary key's name.
@@ -97,7 +97,7 @@ public final class KeyedQuery implements Query {
             this.sql.asString(),
             names
         );
-        this.params.prepare(stmt);
+        this.params.prepare(stmt, this.sql.plan());
         return stmt;
     }
 
@@ -0,0 +1,111 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.query;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL with named parameters, rewritten with {@code ?} placeholders.
+ *
+ * <p>Keeps the names of the parameters in order of appearance, and the
+ * positions of each name, which can appear many times.</p>
+ *
+ * <p>This class is immutable and thread-safe.
+ *
+ * @since 0.3
+ */
+public final class NamedSql {
+    /**
+     * The SQL rewritten with {@code ?} placeholders.
+     */
+    private final String rewritten;
+
+    /**
+     * Parameter names, in order of appearance.
+     */
+    private final List<String> params;
+
+    /**
+     * Placeholder positions (starting at 1), by parameter name.
+     */
+    private final Map<String, int[]> indices;
+
+    /**
+     * Ctor.
+     * @param sql The SQL rewritten with {@code ?} placeholders
+     * @param names Parameter names, in order of appearance
+     */
+    public NamedSql(final String sql, final List<String> names) {
+        this.rewritten = sql;
+        this.params = Collections.unmodifiableList(names);
+        this.indices = new HashMap<>();
+        for (int idx = 0; idx < names.size(); ++idx) {
+            final int[] prev = this.indices.get(names.get(idx));
+            final int[] next;
+            if (prev == null) {
+                next = new int[1];
+            } else {
+                next = Arrays.copyOf(prev, prev.length + 1);
+            }
+            next[next.length - 1] = idx + 1;
+            this.indices.put(names.get(idx), next);
+        }
+    }
+
+    /**
+     * The SQL rewritten with {@code ?} placeholders.
+     * @return The SQL
+     */
+    public String sql() {
+        return this.rewritten;
+    }
+
+    /**
+     * Parameter names, in order of appearance.
+     * @return The names
+     */
+    public List<String> names() {
+        return this.params;
+    }
+
+    /**
+     * Placeholder positions (starting at 1) of a parameter.
+     * @param name The parameter name
+     * @return The positions or an empty array if the name is not in the SQL
+     */
+    public int[] positions(final String name) {
+        final int[] pos = this.indices.get(name);
+        final int[] result;
+        if (pos == null) {
+            result = new int[0];
+        } else {
+            result = pos.clone();
+        }
+        return result;
+    }
+}
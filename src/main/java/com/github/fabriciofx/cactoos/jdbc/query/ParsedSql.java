@@ -26,10 +26,10 @@ package com.github.fabriciofx.cactoos.jdbc.query;
 import com.github.fabriciofx.cactoos.jdbc.QueryParam;
 import com.github.fabriciofx.cactoos.jdbc.QueryParams;
 import com.github.fabriciofx.cactoos.jdbc.SmartQueryParams;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Set;
 import org.cactoos.Scalar;
 import org.cactoos.Text;
 import org.cactoos.scalar.StickyScalar;
@@ -38,13 +38,21 @@ import org.cactoos.text.FormattedText;
 /**
  * Parse named parameters in the SQL.
  *
+ * <p>The parsing is shared through a {@link SqlCache}. Parameters are
+ * bound by name, in any order.</p>
+ *
  * @since 0.1
  */
 public final class ParsedSql implements Text  {
     /**
-     * SQL query.
+     * Parsed SQL query.
+     */
+    private final Scalar<NamedSql> named;
+
+    /**
+     * Positions of each parameter.
      */
-    private final Scalar<String> sql;
+    private final Scalar<int[][]> steps;
 
     /**
      * Ctor.
@@ -70,32 +78,59 @@ public final class ParsedSql implements Text  {
      * @param params SQL query parameters
      */
     public ParsedSql(final Text sql, final QueryParams params) {
-        this.sql = new StickyScalar<>(
+        this(sql, params, SqlCache.GLOBAL);
+    }
+
+    /**
+     * Ctor.
+     * @param sql SQL query
+     * @param params SQL query parameters
+     * @param cache Cache of parsed SQL
+     */
+    public ParsedSql(
+        final Text sql,
+        final QueryParams params,
+        final SqlCache cache
+    ) {
+        this.named = new StickyScalar<>(() -> cache.named(sql.asString()));
+        this.steps = new StickyScalar<>(
             () -> {
-                final String str = sql.asString();
-                final List<String> names = new LinkedList<>();
-                final Pattern find = Pattern.compile("(?<!')(:[\\w]*)(?!')");
-                final Matcher matcher = find.matcher(str);
-                while (matcher.find()) {
-                    names.add(matcher.group().substring(1));
+                final NamedSql parsed = this.named.value();
+                final Set<String> given = new HashSet<>();
+                for (final QueryParam param : params) {
+                    given.add(param.name());
                 }
-                for (int idx = 0; idx < names.size(); ++idx) {
-                    if (!params.contains(names.get(idx), idx)) {
+                for (final String name : parsed.names()) {
+                    if (!given.contains(name)) {
                         throw new IllegalArgumentException(
                             new FormattedText(
-                                "SQL parameter #%d is wrong or out of order",
-                                idx + 1
+                                "SQL parameter '%s' has no value",
+                                name
                             ).asString()
                         );
                     }
                 }
-                return str.replaceAll(find.pattern(), "?");
+                final List<int[]> positions = new ArrayList<>(given.size());
+                for (final QueryParam param : params) {
+                    positions.add(parsed.positions(param.name()));
+                }
+                return positions.toArray(new int[positions.size()][]);
             }
         );
     }
 
+    /**
+     * Positions (starting at 1) where each parameter, in order, is bound.
+     * @return The plan
+     * @throws Exception If a parameter in the SQL has no value
+     */
+    public int[][] plan() throws Exception {
+        return this.steps.value();
+    }
+
     @Override
     public String asString() throws Exception {
-        return this.sql.value();
+        this.steps.value();
+        return this.named.value().sql();
     }
 }
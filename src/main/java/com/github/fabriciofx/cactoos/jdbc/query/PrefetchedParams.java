@@ -0,0 +1,166 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.query;
+
+import com.github.fabriciofx.cactoos.jdbc.QueryParams;
+import com.github.fabriciofx.cactoos.jdbc.SmartQueryParams;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.cactoos.Proc;
+
+/**
+ * Rows of query parameters produced ahead, on another thread.
+ *
+ * <p>The rows are handed over through a bounded queue, so producing them
+ * overlaps with using them. A failure on either side stops the other.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @since 0.3
+ */
+@SuppressWarnings("PMD.AvoidCatchingGenericException")
+public final class PrefetchedParams implements Proc<Proc<QueryParams>> {
+    /**
+     * Marks the end of the rows.
+     */
+    private static final QueryParams END = new SmartQueryParams();
+
+    /**
+     * Produces the rows.
+     */
+    private final Proc<Proc<QueryParams>> origin;
+
+    /**
+     * Where the rows are produced.
+     */
+    private final Executor executor;
+
+    /**
+     * Max number of rows produced and not used yet.
+     */
+    private final int capacity;
+
+    /**
+     * Ctor.
+     * @param rows Produces the rows
+     * @param exec Where the rows are produced
+     */
+    public PrefetchedParams(
+        final Proc<Proc<QueryParams>> rows,
+        final Executor exec
+    ) {
+        // @checkstyle MagicNumber (1 line)
+        this(rows, exec, 1024);
+    }
+
+    /**
+     * Ctor.
+     * @param rows Produces the rows
+     * @param exec Where the rows are produced
+     * @param size Max number of rows produced and not used yet
+     */
+    public PrefetchedParams(
+        final Proc<Proc<QueryParams>> rows,
+        final Executor exec,
+        final int size
+    ) {
+        this.origin = rows;
+        this.executor = exec;
+        this.capacity = size;
+    }
+
+    @Override
+    public void exec(final Proc<QueryParams> rows) throws Exception {
+        final BlockingQueue<QueryParams> queue =
+            new ArrayBlockingQueue<>(this.capacity);
+        final AtomicReference<Exception> error = new AtomicReference<>();
+        final AtomicBoolean stopped = new AtomicBoolean();
+        this.executor.execute(
+            () -> {
+                try {
+                    this.origin.exec(
+                        row -> {
+                            if (!PrefetchedParams.put(queue, row, stopped)) {
+                                throw new IllegalStateException(
+                                    "The rows are no longer used"
+                                );
+                            }
+                        }
+                    );
+                    // @checkstyle IllegalCatchCheck (1 line)
+                } catch (final Exception ex) {
+                    error.set(ex);
+                } finally {
+                    try {
+                        PrefetchedParams.put(
+                            queue,
+                            PrefetchedParams.END,
+                            stopped
+                        );
+                    } catch (final InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+        );
+        try {
+            QueryParams row = queue.take();
+            while (row != PrefetchedParams.END) {
+                rows.exec(row);
+                row = queue.take();
+            }
+        } finally {
+            stopped.set(true);
+            queue.clear();
+        }
+        if (error.get() != null) {
+            throw error.get();
+        }
+    }
+
+    /**
+     * Put a row in the queue, waiting for room unless stopped.
+     * @param queue The queue
+     * @param row The row
+     * @param stopped Was the consumer stopped?
+     * @return True if the row was put
+     * @throws InterruptedException If interrupted
+     */
+    private static boolean put(
+        final BlockingQueue<QueryParams> queue,
+        final QueryParams row,
+        final AtomicBoolean stopped
+    ) throws InterruptedException {
+        boolean done = false;
+        while (!done && !stopped.get()) {
+            // @checkstyle MagicNumber (1 line)
+            done = queue.offer(row, 100L, TimeUnit.MILLISECONDS);
+        }
+        return done;
+    }
+}
@@ -40,7 +40,7 @@ public final class SimpleQuery implements Query {
     /**
      * SQL query.
      */
-    private final Text sql;
+    private final ParsedSql sql;
 
     /**
      * SQL query parameters.
@@ -73,7 +73,7 @@ public final class SimpleQuery implements Query {
         final PreparedStatement stmt = connection.prepareStatement(
             this.sql.asString()
         );
-        this.params.prepare(stmt);
+        this.params.prepare(stmt, this.sql.plan());
         return stmt;
     }
 
@@ -0,0 +1,138 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.query;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded cache of parsed SQL, keyed by the SQL text.
+ *
+ * <p>{@link #GLOBAL} is shared by the whole process; its size is set by
+ * the {@code cactoos.jdbc.sql.cache} system property (1024 by default).</p>
+ *
+ * <p>This class is thread-safe.
+ *
+ * @since 0.3
+ */
+public final class SqlCache {
+    /**
+     * Cache shared by the whole process.
+     */
+    public static final SqlCache GLOBAL = new SqlCache(
+        // @checkstyle MagicNumber (1 line)
+        Integer.getInteger("cactoos.jdbc.sql.cache", 1024)
+    );
+
+    /**
+     * Max number of entries.
+     */
+    private final int max;
+
+    /**
+     * Parsed SQL, by SQL text.
+     */
+    private final Map<String, NamedSql> entries;
+
+    /**
+     * Number of hits.
+     */
+    private final AtomicLong hit;
+
+    /**
+     * Number of misses.
+     */
+    private final AtomicLong miss;
+
+    /**
+     * Ctor.
+     * @param size Max number of entries
+     */
+    public SqlCache(final int size) {
+        this.max = size;
+        this.entries = new ConcurrentHashMap<>();
+        this.hit = new AtomicLong();
+        this.miss = new AtomicLong();
+    }
+
+    /**
+     * Get the parsed SQL.
+     * @param sql SQL with named parameters
+     * @return The parsed SQL
+     */
+    public NamedSql named(final String sql) {
+        NamedSql named = this.entries.get(sql);
+        if (named == null) {
+            this.miss.incrementAndGet();
+            named = new SqlScanner(sql).value();
+            if (this.max > 0) {
+                this.evict();
+                final NamedSql prev = this.entries.putIfAbsent(sql, named);
+                if (prev != null) {
+                    named = prev;
+                }
+            }
+        } else {
+            this.hit.incrementAndGet();
+        }
+        return named;
+    }
+
+    /**
+     * Number of lookups that found the SQL already parsed.
+     * @return The number of hits
+     */
+    public long hits() {
+        return this.hit.get();
+    }
+
+    /**
+     * Number of lookups that had to parse the SQL.
+     * @return The number of misses
+     */
+    public long misses() {
+        return this.miss.get();
+    }
+
+    /**
+     * Number of entries.
+     * @return The number of entries
+     */
+    public int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Evict entries until there is room for a new one.
+     */
+    private void evict() {
+        final Iterator<String> keys = this.entries.keySet().iterator();
+        while (this.entries.size() >= this.max && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+}
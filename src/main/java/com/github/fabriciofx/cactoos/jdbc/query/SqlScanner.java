@@ -0,0 +1,229 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.cactoos.Scalar;
+
+/**
+ * Scan SQL for named parameters in a single pass.
+ *
+ * <p>Each {@code :name} becomes a {@code ?} placeholder, except inside
+ * literals, quoted identifiers, comments, dollar-quoted bodies and
+ * PostgreSQL casts ({@code ::}).</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.3
+ */
+@SuppressWarnings(
+    {
+        "PMD.AvoidLiteralsInIfCondition",
+        "PMD.CyclomaticComplexity",
+        "PMD.StdCyclomaticComplexity",
+        "PMD.ModifiedCyclomaticComplexity"
+    }
+)
+public final class SqlScanner implements Scalar<NamedSql> {
+    /**
+     * SQL with named parameters.
+     */
+    private final String sql;
+
+    /**
+     * Ctor.
+     * @param sql SQL with named parameters
+     */
+    public SqlScanner(final String sql) {
+        this.sql = sql;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidReassigningLoopVariables")
+    public NamedSql value() {
+        final String text = this.sql;
+        final int len = text.length();
+        final StringBuilder out = new StringBuilder(len);
+        final List<String> names = new ArrayList<>(4);
+        int copied = 0;
+        int pos = 0;
+        while (pos < len) {
+            final char chr = text.charAt(pos);
+            final char next;
+            if (pos + 1 < len) {
+                next = text.charAt(pos + 1);
+            } else {
+                next = 0;
+            }
+            final int after = this.skip(pos);
+            if (after > pos) {
+                pos = after;
+            } else if (chr == ':' && next == ':') {
+                pos += 2;
+                while (pos < len && text.charAt(pos) == ':') {
+                    ++pos;
+                }
+            } else if (chr == ':' && Character.isJavaIdentifierStart(next)
+                && next != '$') {
+                final int end = SqlScanner.identifier(text, pos + 1);
+                out.append(text, copied, pos).append('?');
+                names.add(text.substring(pos + 1, end));
+                copied = end;
+                pos = end;
+            } else {
+                ++pos;
+            }
+        }
+        final String rewritten;
+        if (copied == 0) {
+            rewritten = text;
+        } else {
+            rewritten = out.append(text, copied, len).toString();
+        }
+        return new NamedSql(rewritten, names);
+    }
+
+    /**
+     * Skip what is not SQL code at a position.
+     *
+     * <p>Other components looking for keywords or placeholders in the SQL
+     * use it, so all of them agree on which text is SQL code.</p>
+     * @param pos A position in the SQL
+     * @return Position after the string literal, quoted identifier, comment
+     *  or dollar-quoted body starting there, or the same position if SQL
+     *  code starts there
+     */
+    public int skip(final int pos) {
+        final String text = this.sql;
+        final char chr = text.charAt(pos);
+        final char next;
+        if (pos + 1 < text.length()) {
+            next = text.charAt(pos + 1);
+        } else {
+            next = 0;
+        }
+        int after = pos;
+        if (chr == '\'' || chr == '"' || chr == '`') {
+            after = SqlScanner.quoted(text, pos, chr);
+        } else if (chr == '-' && next == '-') {
+            after = SqlScanner.until(text, pos + 2, "\n");
+        } else if (chr == '/' && next == '*') {
+            after = SqlScanner.until(text, pos + 2, "*/");
+        } else if (chr == '$') {
+            final int end = SqlScanner.dollar(text, pos);
+            if (end > pos + 1) {
+                after = end;
+            }
+        }
+        return after;
+    }
+
+    /**
+     * Skip a quoted text, where a doubled quote is an escaped quote.
+     * @param text SQL
+     * @param start Position of the opening quote
+     * @param quote The quote
+     * @return Position after the closing quote
+     */
+    private static int quoted(final String text, final int start,
+        final char quote) {
+        final int len = text.length();
+        int pos = start + 1;
+        while (pos < len) {
+            if (text.charAt(pos) == quote) {
+                if (pos + 1 < len && text.charAt(pos + 1) == quote) {
+                    pos += 2;
+                } else {
+                    break;
+                }
+            } else {
+                ++pos;
+            }
+        }
+        return Math.min(pos + 1, len);
+    }
+
+    /**
+     * Skip until the end of a delimiter.
+     * @param text SQL
+     * @param start Where to start looking for the delimiter
+     * @param delimiter The delimiter
+     * @return Position after the delimiter or the end of the SQL
+     */
+    private static int until(final String text, final int start,
+        final String delimiter) {
+        final int end = text.indexOf(delimiter, start);
+        final int pos;
+        if (end < 0) {
+            pos = text.length();
+        } else {
+            pos = end + delimiter.length();
+        }
+        return pos;
+    }
+
+    /**
+     * Skip a dollar-quoted body, if there is one.
+     * @param text SQL
+     * @param start Position of the opening dollar
+     * @return Position after the body or after the dollar
+     */
+    private static int dollar(final String text, final int start) {
+        final int len = text.length();
+        int pos = start + 1;
+        if (start == 0
+            || !Character.isJavaIdentifierPart(text.charAt(start - 1))) {
+            if (pos < len
+                && Character.isJavaIdentifierStart(text.charAt(pos))
+                && text.charAt(pos) != '$') {
+                pos = SqlScanner.identifier(text, pos);
+            }
+            if (pos < len && text.charAt(pos) == '$') {
+                pos = SqlScanner.until(
+                    text, pos + 1, text.substring(start, pos + 1)
+                );
+            } else {
+                pos = start + 1;
+            }
+        }
+        return pos;
+    }
+
+    /**
+     * Find the end of an identifier.
+     * @param text SQL
+     * @param start Position of the identifier's first character
+     * @return Position after the identifier
+     */
+    private static int identifier(final String text, final int start) {
+        final int len = text.length();
+        int pos = start;
+        while (pos < len && Character.isJavaIdentifierPart(text.charAt(pos))
+            && text.charAt(pos) != '$') {
+            ++pos;
+        }
+        return pos;
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import org.cactoos.Scalar;
+
+/**
+ * Tables named by a SQL statement.
+ *
+ * <p>Names after {@code FROM}, {@code JOIN}, {@code INTO},
+ * {@code UPDATE} and the like, lower-cased, unquoted and without schema.
+ * Views and triggers are not resolved, and no tables are found in a
+ * statement it can't parse, such as a procedure call.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.3
+ */
+@SuppressWarnings(
+    {
+        "PMD.AvoidLiteralsInIfCondition",
+        "PMD.CyclomaticComplexity",
+        "PMD.StdCyclomaticComplexity",
+        "PMD.ModifiedCyclomaticComplexity"
+    }
+)
+public final class SqlTables implements Scalar<Set<String>> {
+    /**
+     * Keywords followed by a table name.
+     */
+    private static final Set<String> BEFORE = new HashSet<>(
+        Arrays.asList(
+            "from", "join", "into", "update", "table", "truncate", "insert"
+        )
+    );
+
+    /**
+     * Keywords followed by a comma separated list of table names.
+     */
+    private static final Set<String> LISTS = new HashSet<>(
+        Arrays.asList("from", "update", "truncate")
+    );
+
+    /**
+     * Keywords that can stand between a keyword and a table name.
+     */
+    private static final Set<String> MODIFIERS = new HashSet<>(
+        Arrays.asList(
+            "into", "table", "only", "ignore", "low_priority", "delayed",
+            "high_priority", "if", "not", "exists"
+        )
+    );
+
+    /**
+     * Keywords that can follow a table name in a FROM list.
+     */
+    private static final Set<String> AFTER = new HashSet<>(
+        Arrays.asList(
+            "where", "join", "inner", "left", "right", "full", "cross",
+            "outer", "natural", "on", "using", "group", "order", "having",
+            "limit", "offset", "fetch", "for", "union", "except",
+            "intersect", "window", "set", "values", "returning", "select",
+            "nowait", "skip", "default", "partition"
+        )
+    );
+
+    /**
+     * The SQL.
+     */
+    private final String sql;
+
+    /**
+     * Ctor.
+     * @param sql The SQL
+     */
+    public SqlTables(final String sql) {
+        this.sql = sql;
+    }
+
+    @Override
+    public Set<String> value() {
+        final List<String> tokens = SqlTables.tokens(this.sql);
+        final Set<String> tables = new LinkedHashSet<>(4);
+        int idx = 0;
+        while (idx < tokens.size()) {
+            final String token = tokens.get(idx);
+            ++idx;
+            if (SqlTables.BEFORE.contains(token)) {
+                while (idx < tokens.size()
+                    && SqlTables.MODIFIERS.contains(tokens.get(idx))) {
+                    ++idx;
+                }
+                boolean more = true;
+                while (more && idx < tokens.size()
+                    && SqlTables.name(tokens.get(idx))
+                    && !SqlTables.AFTER.contains(tokens.get(idx))) {
+                    tables.add(SqlTables.table(tokens.get(idx)));
+                    ++idx;
+                    more = SqlTables.LISTS.contains(token);
+                    if (more && idx < tokens.size()
+                        && "as".equals(tokens.get(idx))) {
+                        ++idx;
+                    }
+                    if (more && idx < tokens.size()
+                        && SqlTables.name(tokens.get(idx))
+                        && !SqlTables.AFTER.contains(tokens.get(idx))) {
+                        ++idx;
+                    }
+                    if (more && idx < tokens.size()
+                        && ",".equals(tokens.get(idx))) {
+                        ++idx;
+                    } else {
+                        more = false;
+                    }
+                }
+            }
+        }
+        return tables;
+    }
+
+    /**
+     * Is the token a name?
+     * @param token The token
+     * @return True if it is
+     */
+    private static boolean name(final String token) {
+        final char first = token.charAt(0);
+        return first == '"' || first == '`' || first == '['
+            || Character.isJavaIdentifierStart(first);
+    }
+
+    /**
+     * The table of a name: unquoted, without schema and lower-cased.
+     * @param name The name, maybe qualified and quoted
+     * @return The table
+     */
+    private static String table(final String name) {
+        final StringBuilder table = new StringBuilder(name.length());
+        for (int idx = 0; idx < name.length(); ++idx) {
+            final char chr = name.charAt(idx);
+            if (chr == '.') {
+                table.setLength(0);
+            } else if (chr != '"' && chr != '`' && chr != '['
+                && chr != ']') {
+                table.append(chr);
+            }
+        }
+        return table.toString().toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * Split SQL into lower-cased words (names maybe qualified and quoted)
+     * and single punctuation characters, leaving out what
+     * {@link SqlScanner} skips (but quoted names) and blanks.
+     * @param sql The SQL
+     * @return The tokens
+     */
+    @SuppressWarnings("PMD.AvoidReassigningLoopVariables")
+    private static List<String> tokens(final String sql) {
+        final List<String> tokens = new ArrayList<>(16);
+        final SqlScanner scanner = new SqlScanner(sql);
+        final int len = sql.length();
+        int pos = 0;
+        while (pos < len) {
+            final char chr = sql.charAt(pos);
+            final int after;
+            if (chr == '"' || chr == '`') {
+                after = pos;
+            } else {
+                after = scanner.skip(pos);
+            }
+            if (after > pos) {
+                pos = after;
+            } else if (Character.isWhitespace(chr)) {
+                ++pos;
+            } else if (SqlTables.name(String.valueOf(chr))) {
+                final int start = pos;
+                while (pos < len && SqlTables.part(sql.charAt(pos))) {
+                    final char cur = sql.charAt(pos);
+                    if (cur == '"' || cur == '`') {
+                        pos = scanner.skip(pos);
+                    } else if (cur == '[') {
+                        pos = SqlTables.closing(sql, pos + 1);
+                    } else {
+                        ++pos;
+                    }
+                }
+                tokens.add(
+                    sql.substring(start, pos).toLowerCase(Locale.ENGLISH)
+                );
+            } else {
+                tokens.add(String.valueOf(chr));
+                ++pos;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Can the character be part of a name?
+     * @param chr The character
+     * @return True if it can
+     */
+    private static boolean part(final char chr) {
+        return Character.isJavaIdentifierPart(chr) || chr == '.'
+            || chr == '"' || chr == '`' || chr == '[';
+    }
+
+    /**
+     * Position right after the end of a bracketed name.
+     * @param sql The SQL
+     * @param from Where the name starts
+     * @return The position after the closing bracket
+     */
+    private static int closing(final String sql, final int from) {
+        final int found = sql.indexOf(']', from);
+        final int pos;
+        if (found < 0) {
+            pos = sql.length();
+        } else {
+            pos = found + 1;
+        }
+        return pos;
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.query;
+
+import org.cactoos.scalar.StickyScalar;
+import org.cactoos.scalar.UncheckedScalar;
+
+/**
+ * A single-row INSERT rewritten to insert many rows at once.
+ *
+ * <p>Only a simple insert, like {@code INSERT INTO t (a, b) VALUES (?, ?)},
+ * with a single tuple after {@code VALUES} holding all placeholders, can
+ * have its tuple repeated.</p>
+ *
+ * <p>This class is thread-safe.
+ *
+ * @since 0.3
+ */
+@SuppressWarnings(
+    {
+        "PMD.AvoidLiteralsInIfCondition",
+        "PMD.CyclomaticComplexity",
+        "PMD.StdCyclomaticComplexity",
+        "PMD.ModifiedCyclomaticComplexity"
+    }
+)
+public final class ValuesSql {
+    /**
+     * The SQL with {@code ?} placeholders.
+     */
+    private final String sql;
+
+    /**
+     * Where the tuple starts and ends, or an empty array if not simple.
+     */
+    private final UncheckedScalar<int[]> tuple;
+
+    /**
+     * Ctor.
+     * @param sql The SQL with {@code ?} placeholders
+     */
+    public ValuesSql(final String sql) {
+        this.sql = sql;
+        this.tuple = new UncheckedScalar<>(
+            new StickyScalar<>(() -> ValuesSql.find(sql))
+        );
+    }
+
+    /**
+     * Is it a simple insert, which can insert many rows?
+     * @return True if it is
+     */
+    public boolean simple() {
+        return this.tuple.value().length > 0;
+    }
+
+    /**
+     * The SQL inserting many rows.
+     * @param count Number of rows
+     * @return The SQL
+     */
+    public String rows(final int count) {
+        if (!this.simple()) {
+            throw new IllegalStateException(
+                "The SQL is not a simple insert"
+            );
+        }
+        final int[] bounds = this.tuple.value();
+        final String values = this.sql.substring(bounds[0], bounds[1]);
+        final StringBuilder out = new StringBuilder(
+            bounds[0] + (values.length() + 2) * count
+        ).append(this.sql, 0, bounds[1]);
+        for (int idx = 1; idx < count; ++idx) {
+            out.append(", ").append(values);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Find the tuple of a simple insert.
+     * @param sql The SQL
+     * @return Where the tuple starts and ends or an empty array
+     */
+    @SuppressWarnings("PMD.AvoidReassigningLoopVariables")
+    private static int[] find(final String sql) {
+        int end = sql.length();
+        while (end > 0 && (Character.isWhitespace(sql.charAt(end - 1))
+            || sql.charAt(end - 1) == ';')) {
+            --end;
+        }
+        int start = 0;
+        while (start < end && Character.isWhitespace(sql.charAt(start))) {
+            ++start;
+        }
+        int[] bounds = new int[0];
+        if (sql.regionMatches(true, start, "INSERT", 0, 6)) {
+            final SqlScanner scanner = new SqlScanner(sql);
+            int pos = start;
+            int open = -1;
+            boolean placeholder = false;
+            while (pos < end && open < 0) {
+                final int after = scanner.skip(pos);
+                if (after > pos) {
+                    pos = after;
+                } else if (sql.charAt(pos) == '?') {
+                    placeholder = true;
+                    ++pos;
+                } else if (ValuesSql.keyword(sql, pos, "VALUES")) {
+                    pos += 6;
+                    while (pos < end
+                        && Character.isWhitespace(sql.charAt(pos))) {
+                        ++pos;
+                    }
+                    open = pos;
+                } else {
+                    ++pos;
+                }
+            }
+            if (!placeholder && open >= 0 && open < end
+                && sql.charAt(open) == '('
+                && ValuesSql.closing(scanner, sql, open) == end) {
+                bounds = new int[] {open, end};
+            }
+        }
+        return bounds;
+    }
+
+    /**
+     * Is there a keyword at a position?
+     * @param sql The SQL
+     * @param pos The position
+     * @param word The keyword
+     * @return True if there is
+     */
+    private static boolean keyword(final String sql, final int pos,
+        final String word) {
+        final int after = pos + word.length();
+        return sql.regionMatches(true, pos, word, 0, word.length())
+            && (pos == 0
+                || !Character.isJavaIdentifierPart(sql.charAt(pos - 1)))
+            && (after >= sql.length()
+                || !Character.isJavaIdentifierPart(sql.charAt(after)));
+    }
+
+    /**
+     * Find the position after the parenthesis closing an opening one.
+     * @param scanner The scanner of the SQL
+     * @param sql The SQL
+     * @param open Position of the opening parenthesis
+     * @return Position after the closing parenthesis or -1
+     */
+    @SuppressWarnings("PMD.AvoidReassigningLoopVariables")
+    private static int closing(final SqlScanner scanner, final String sql,
+        final int open) {
+        int depth = 0;
+        int pos = open;
+        int after = -1;
+        while (pos < sql.length() && after < 0) {
+            final int skipped = scanner.skip(pos);
+            if (skipped > pos) {
+                pos = skipped;
+            } else {
+                final char chr = sql.charAt(pos);
+                if (chr == '(') {
+                    ++depth;
+                } else if (chr == ')') {
+                    --depth;
+                    if (depth == 0) {
+                        after = pos + 1;
+                    }
+                }
+                ++pos;
+            }
+        }
+        return after;
+    }
+}
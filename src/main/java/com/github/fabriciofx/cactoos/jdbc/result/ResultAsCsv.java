@@ -0,0 +1,177 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.result;
+
+import com.github.fabriciofx.cactoos.jdbc.Result;
+import com.github.fabriciofx.cactoos.jdbc.Rows;
+import com.github.fabriciofx.cactoos.jdbc.Statement;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * Result written as CSV (or TSV) to a file.
+ *
+ * <p>Each row is written as soon as it is read, after a header line.
+ * Nulls are empty fields and empty texts quoted empty fields, as
+ * {@link com.github.fabriciofx.cactoos.jdbc.query.CsvParams} reads them.
+ * The value is the number of rows written.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 0.3
+ */
+public final class ResultAsCsv implements Result<Long> {
+    /**
+     * Statement that returns a Rows.
+     */
+    private final Statement<Rows> statement;
+
+    /**
+     * The file.
+     */
+    private final Path file;
+
+    /**
+     * Field separator.
+     */
+    private final char separator;
+
+    /**
+     * Ctor.
+     * @param stmt A statement
+     * @param path The file
+     */
+    public ResultAsCsv(final Statement<Rows> stmt, final Path path) {
+        this(stmt, path, ',');
+    }
+
+    /**
+     * Ctor.
+     * @param stmt A statement
+     * @param path The file
+     * @param sep Field separator (use a tab for TSV)
+     */
+    public ResultAsCsv(
+        final Statement<Rows> stmt,
+        final Path path,
+        final char sep
+    ) {
+        this.statement = stmt;
+        this.file = path;
+        this.separator = sep;
+    }
+
+    @Override
+    public Long value() throws Exception {
+        long count = 0L;
+        try (
+            final FileChannel channel = FileChannel.open(
+                this.file,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE
+            );
+            final Writer out = new BufferedWriter(
+                Channels.newWriter(
+                    channel,
+                    StandardCharsets.UTF_8.newEncoder(),
+                    // @checkstyle MagicNumber (1 line)
+                    1 << 16
+                ),
+                // @checkstyle MagicNumber (1 line)
+                1 << 16
+            );
+            final Rows rows = this.statement.result().value()
+        ) {
+            this.line(out, rows.columns());
+            for (final Map<String, Object> row : rows) {
+                this.line(out, row.values());
+                ++count;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Write a line.
+     * @param out Where to write
+     * @param fields The fields
+     * @throws IOException If fails
+     */
+    private void line(final Writer out, final Iterable<?> fields)
+        throws IOException {
+        boolean first = true;
+        for (final Object field : fields) {
+            if (!first) {
+                out.write(this.separator);
+            }
+            first = false;
+            if (field instanceof byte[]) {
+                out.write(Base64.getEncoder().encodeToString((byte[]) field));
+            } else if (field != null) {
+                this.field(out, field.toString());
+            }
+        }
+        out.write("\r\n");
+    }
+
+    /**
+     * Write a field, quoted if it is empty or needs it.
+     * @param out Where to write
+     * @param text The field
+     * @throws IOException If fails
+     */
+    private void field(final Writer out, final String text)
+        throws IOException {
+        boolean quote = text.isEmpty();
+        for (int idx = 0; idx < text.length() && !quote; ++idx) {
+            final char chr = text.charAt(idx);
+            quote = chr == this.separator || chr == '"' || chr == '\n'
+                || chr == '\r';
+        }
+        if (quote) {
+            out.write('"');
+            int start = 0;
+            int found = text.indexOf('"');
+            while (found >= 0) {
+                out.write(text, start, found - start + 1);
+                out.write('"');
+                start = found + 1;
+                found = text.indexOf('"', start);
+            }
+            out.write(text, start, text.length() - start);
+            out.write('"');
+        } else {
+            out.write(text);
+        }
+    }
+}
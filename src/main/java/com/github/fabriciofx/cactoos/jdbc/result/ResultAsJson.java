@@ -0,0 +1,74 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.result;
+
+import com.github.fabriciofx.cactoos.jdbc.Result;
+import com.github.fabriciofx.cactoos.jdbc.Rows;
+import com.github.fabriciofx.cactoos.jdbc.Statement;
+import java.io.StringWriter;
+
+/**
+ * Result as JSON.
+ *
+ * <p>The whole document is built in memory; see {@link ResultAsJsonStream}
+ * to write it to a stream instead.</p>
+ *
+ * @since 0.3
+ */
+public final class ResultAsJson implements Result<String> {
+    /**
+     * Statement that returns a Rows.
+     */
+    private final Statement<Rows> statement;
+
+    /**
+     * Write each row as an array instead of an object?
+     */
+    private final boolean arrays;
+
+    /**
+     * Ctor.
+     * @param stmt A statement
+     */
+    public ResultAsJson(final Statement<Rows> stmt) {
+        this(stmt, false);
+    }
+
+    /**
+     * Ctor.
+     * @param stmt A statement
+     * @param array Write each row as an array instead of an object?
+     */
+    public ResultAsJson(final Statement<Rows> stmt, final boolean array) {
+        this.statement = stmt;
+        this.arrays = array;
+    }
+
+    @Override
+    public String value() throws Exception {
+        final StringWriter writer = new StringWriter();
+        new ResultAsJsonStream(this.statement, writer, this.arrays).value();
+        return writer.toString();
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.result;
+
+import com.github.fabriciofx.cactoos.jdbc.Result;
+import com.github.fabriciofx.cactoos.jdbc.Rows;
+import com.github.fabriciofx.cactoos.jdbc.Statement;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.temporal.TemporalAccessor;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Result written as JSON to a stream.
+ *
+ * <p>Rows are written as objects ({@code [{"id":1}]}) or arrays
+ * ({@code [[1]]}) as soon as they are read and the stream is flushed, not
+ * closed. The value is the number of rows written.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 0.3
+ */
+public final class ResultAsJsonStream implements Result<Long> {
+    /**
+     * Statement that returns a Rows.
+     */
+    private final Statement<Rows> statement;
+
+    /**
+     * Where the JSON is written.
+     */
+    private final Writer writer;
+
+    /**
+     * Write each row as an array instead of an object?
+     */
+    private final boolean arrays;
+
+    /**
+     * Ctor.
+     * @param stmt A statement
+     * @param out Where the JSON is written, encoded in UTF-8
+     */
+    public ResultAsJsonStream(
+        final Statement<Rows> stmt,
+        final OutputStream out
+    ) {
+        this(stmt, out, false);
+    }
+
+    /**
+     * Ctor.
+     * @param stmt A statement
+     * @param out Where the JSON is written, encoded in UTF-8
+     * @param array Write each row as an array instead of an object?
+     */
+    public ResultAsJsonStream(
+        final Statement<Rows> stmt,
+        final OutputStream out,
+        final boolean array
+    ) {
+        this(
+            stmt,
+            new OutputStreamWriter(out, StandardCharsets.UTF_8),
+            array
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param stmt A statement
+     * @param out Where the JSON is written
+     * @param array Write each row as an array instead of an object?
+     */
+    public ResultAsJsonStream(
+        final Statement<Rows> stmt,
+        final Writer out,
+        final boolean array
+    ) {
+        this.statement = stmt;
+        this.writer = out;
+        this.arrays = array;
+    }
+
+    @Override
+    public Long value() throws Exception {
+        // @checkstyle MagicNumber (1 line)
+        final Writer out = new BufferedWriter(this.writer, 8192);
+        final Map<String, char[]> keys = new HashMap<>();
+        long count = 0L;
+        out.write('[');
+        try (final Rows rows = this.statement.result().value()) {
+            for (final Map<String, Object> row : rows) {
+                if (count > 0L) {
+                    out.write(',');
+                }
+                if (this.arrays) {
+                    out.write('[');
+                } else {
+                    out.write('{');
+                }
+                boolean first = true;
+                for (final Map.Entry<String, Object> cell : row.entrySet()) {
+                    if (!first) {
+                        out.write(',');
+                    }
+                    first = false;
+                    if (!this.arrays) {
+                        out.write(
+                            keys.computeIfAbsent(
+                                cell.getKey(),
+                                ResultAsJsonStream::key
+                            )
+                        );
+                    }
+                    ResultAsJsonStream.json(out, cell.getValue());
+                }
+                if (this.arrays) {
+                    out.write(']');
+                } else {
+                    out.write('}');
+                }
+                ++count;
+            }
+        }
+        out.write(']');
+        out.flush();
+        return count;
+    }
+
+    /**
+     * The key of a column, quoted and followed by a colon.
+     * @param name The column name
+     * @return The key
+     */
+    private static char[] key(final String name) {
+        final StringWriter key = new StringWriter(name.length() + 3);
+        try {
+            ResultAsJsonStream.quoted(key, name);
+        } catch (final IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        key.write(':');
+        return key.toString().toCharArray();
+    }
+
+    /**
+     * Write a value as JSON.
+     * @param out Where to write
+     * @param value The value
+     * @throws IOException If fails
+     */
+    private static void json(final Writer out, final Object value)
+        throws IOException {
+        if (value == null) {
+            out.write("null");
+        } else if (value instanceof Double || value instanceof Float) {
+            final double number = ((Number) value).doubleValue();
+            if (Double.isInfinite(number) || Double.isNaN(number)) {
+                out.write("null");
+            } else {
+                out.write(value.toString());
+            }
+        } else if (value instanceof Number || value instanceof Boolean) {
+            out.write(value.toString());
+        } else if (value instanceof TemporalAccessor
+            || value instanceof UUID) {
+            out.write('"');
+            out.write(value.toString());
+            out.write('"');
+        } else if (value instanceof byte[]) {
+            out.write('"');
+            out.write(Base64.getEncoder().encodeToString((byte[]) value));
+            out.write('"');
+        } else {
+            ResultAsJsonStream.quoted(out, value.toString());
+        }
+    }
+
+    /**
+     * Write text quoted and escaped for JSON.
+     * @param out Where to write
+     * @param text The text
+     * @throws IOException If fails
+     * @checkstyle MagicNumber (40 lines)
+     */
+    private static void quoted(final Writer out, final String text)
+        throws IOException {
+        out.write('"');
+        int start = 0;
+        for (int idx = 0; idx < text.length(); ++idx) {
+            final char chr = text.charAt(idx);
+            final String escape;
+            if (chr == '"') {
+                escape = "\\\"";
+            } else if (chr == '\\') {
+                escape = "\\\\";
+            } else if (chr == '\n') {
+                escape = "\\n";
+            } else if (chr == '\r') {
+                escape = "\\r";
+            } else if (chr == '\t') {
+                escape = "\\t";
+            } else if (chr < ' ' || chr == 0x2028 || chr == 0x2029) {
+                escape = String.format("\\u%04x", (int) chr);
+            } else {
+                escape = null;
+            }
+            if (escape != null) {
+                out.write(text, start, idx - start);
+                out.write(escape);
+                start = idx + 1;
+            }
+        }
+        out.write(text, start, text.length() - start);
+        out.write('"');
+    }
+}
@@ -54,9 +54,11 @@ public final class ResultAsValues<T> implements Result<List<T>> {
     @Override
     public List<T> value() throws Exception {
         final List<T> values = new LinkedList<>();
-        for (final Map<String, Object> row : this.statement.result().value()) {
-            for (final Object obj : row.values()) {
-                values.add((T) obj);
+        try (final Rows rows = this.statement.result().value()) {
+            for (final Map<String, Object> row : rows) {
+                for (final Object obj : row.values()) {
+                    values.add((T) obj);
+                }
             }
         }
         return values;
@@ -26,14 +26,16 @@ package com.github.fabriciofx.cactoos.jdbc.result;
 import com.github.fabriciofx.cactoos.jdbc.Result;
 import com.github.fabriciofx.cactoos.jdbc.Rows;
 import com.github.fabriciofx.cactoos.jdbc.Statement;
-import java.util.Map;
+import java.io.StringWriter;
 
 /**
  * Result as XML.
  *
+ * <p>The whole document is built in memory; see {@link ResultAsXmlStream}
+ * to write it to a stream instead.</p>
+ *
  * @since 0.1
  */
-@SuppressWarnings("PMD.AvoidDuplicateLiterals")
 public final class ResultAsXml implements Result<String> {
     /**
      * Statement that returns a Rows.
@@ -68,23 +70,13 @@ public final class ResultAsXml implements Result<String> {
 
     @Override
     public String value() throws Exception {
-        final StringBuilder strb = new StringBuilder();
-        strb.append(String.format("<%s>", this.root));
-        for (final Map<String, Object> row : this.statement.result().value()) {
-            strb.append(String.format("<%s>", this.child));
-            for (final String key : row.keySet()) {
-                strb.append(
-                    String.format(
-                        "<%s>%s</%s>",
-                        key,
-                        row.get(key),
-                        key
-                    )
-                );
-            }
-            strb.append(String.format("</%s>", this.child));
-        }
-        strb.append(String.format("</%s>", this.root));
-        return strb.toString();
+        final StringWriter writer = new StringWriter();
+        new ResultAsXmlStream(
+            this.statement,
+            this.root,
+            this.child,
+            writer
+        ).value();
+        return writer.toString();
     }
 }
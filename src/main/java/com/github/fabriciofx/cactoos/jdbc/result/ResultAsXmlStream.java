@@ -0,0 +1,224 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.result;
+
+import com.github.fabriciofx.cactoos.jdbc.Result;
+import com.github.fabriciofx.cactoos.jdbc.Rows;
+import com.github.fabriciofx.cactoos.jdbc.Statement;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Result written as XML to a stream.
+ *
+ * <p>Each row is written as soon as it is read and the stream is flushed,
+ * not closed. Column names must be valid XML names. The value is the
+ * number of rows written.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 0.3
+ */
+public final class ResultAsXmlStream implements Result<Long> {
+    /**
+     * Statement that returns a Rows.
+     */
+    private final Statement<Rows> statement;
+
+    /**
+     * Root tag in the XML.
+     */
+    private final String root;
+
+    /**
+     * Child tag in the XML.
+     */
+    private final String child;
+
+    /**
+     * Where the XML is written.
+     */
+    private final Writer writer;
+
+    /**
+     * Ctor.
+     * @param stmt A statement
+     * @param root A root tag
+     * @param child A child tag
+     * @param out Where the XML is written, encoded in UTF-8
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public ResultAsXmlStream(
+        final Statement<Rows> stmt,
+        final String root,
+        final String child,
+        final OutputStream out
+    ) {
+        this(
+            stmt,
+            root,
+            child,
+            new OutputStreamWriter(out, StandardCharsets.UTF_8)
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param stmt A statement
+     * @param root A root tag
+     * @param child A child tag
+     * @param out Where the XML is written
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public ResultAsXmlStream(
+        final Statement<Rows> stmt,
+        final String root,
+        final String child,
+        final Writer out
+    ) {
+        this.statement = stmt;
+        this.root = root;
+        this.child = child;
+        this.writer = out;
+    }
+
+    @Override
+    public Long value() throws Exception {
+        // @checkstyle MagicNumber (1 line)
+        final Writer out = new BufferedWriter(this.writer, 8192);
+        final Map<String, char[][]> tags = new HashMap<>();
+        final char[][] rtag = ResultAsXmlStream.tags(this.root);
+        final char[][] ctag = ResultAsXmlStream.tags(this.child);
+        long count = 0L;
+        out.write(rtag[0]);
+        try (final Rows rows = this.statement.result().value()) {
+            for (final Map<String, Object> row : rows) {
+                out.write(ctag[0]);
+                for (final Map.Entry<String, Object> cell : row.entrySet()) {
+                    final char[][] tag = tags.computeIfAbsent(
+                        cell.getKey(),
+                        ResultAsXmlStream::tags
+                    );
+                    out.write(tag[0]);
+                    if (cell.getValue() instanceof byte[]) {
+                        out.write(
+                            Base64.getEncoder().encodeToString(
+                                (byte[]) cell.getValue()
+                            )
+                        );
+                    } else {
+                        ResultAsXmlStream.escaped(
+                            out,
+                            String.valueOf(cell.getValue())
+                        );
+                    }
+                    out.write(tag[1]);
+                }
+                out.write(ctag[1]);
+                ++count;
+            }
+        }
+        out.write(rtag[1]);
+        out.flush();
+        return count;
+    }
+
+    /**
+     * The opening and closing tags of a name.
+     * @param name The name
+     * @return The opening and the closing tag
+     * @throws IllegalArgumentException If the name is not a valid XML name
+     */
+    private static char[][] tags(final String name) {
+        boolean valid = !name.isEmpty()
+            && ResultAsXmlStream.start(name.charAt(0));
+        for (int idx = 1; valid && idx < name.length(); ++idx) {
+            final char chr = name.charAt(idx);
+            valid = ResultAsXmlStream.start(chr) || Character.isDigit(chr)
+                || chr == '-' || chr == '.';
+        }
+        if (!valid) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "'%s' is not a valid XML name, give the column an alias",
+                    name
+                )
+            );
+        }
+        return new char[][] {
+            String.join("", "<", name, ">").toCharArray(),
+            String.join("", "</", name, ">").toCharArray(),
+        };
+    }
+
+    /**
+     * Can the character start an XML name?
+     * @param chr The character
+     * @return True if it can
+     */
+    private static boolean start(final char chr) {
+        return Character.isLetter(chr) || chr == '_' || chr == ':';
+    }
+
+    /**
+     * Write text escaped for XML. Characters not allowed in XML are left
+     * out.
+     * @param out Where to write
+     * @param text The text
+     * @throws IOException If fails
+     */
+    private static void escaped(final Writer out, final String text)
+        throws IOException {
+        int start = 0;
+        for (int idx = 0; idx < text.length(); ++idx) {
+            final char chr = text.charAt(idx);
+            final String entity;
+            if (chr == '<') {
+                entity = "&lt;";
+            } else if (chr == '>') {
+                entity = "&gt;";
+            } else if (chr == '&') {
+                entity = "&amp;";
+            } else if (chr < ' ' && chr != '\t' && chr != '\n'
+                && chr != '\r') {
+                entity = "";
+            } else {
+                entity = null;
+            }
+            if (entity != null) {
+                out.write(text, start, idx - start);
+                out.write(entity);
+                start = idx + 1;
+            }
+        }
+        out.write(text, start, text.length() - start);
+    }
+}
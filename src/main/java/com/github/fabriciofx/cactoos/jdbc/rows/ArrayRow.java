@@ -0,0 +1,127 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.rows;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A row as a read-only map from column names to values.
+ *
+ * <p>Names are looked up in any case; a repeated name holds the last
+ * column's value.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.3
+ */
+public final class ArrayRow extends AbstractMap<String, Object> {
+    /**
+     * The columns.
+     */
+    private final Columns columns;
+
+    /**
+     * The cells, in column order.
+     */
+    private final Object[] cells;
+
+    /**
+     * Ctor.
+     * @param cols The columns
+     * @param values The cells, in column order
+     */
+    public ArrayRow(final Columns cols, final Object... values) {
+        super();
+        this.columns = cols;
+        this.cells = values;
+    }
+
+    @Override
+    public int size() {
+        return this.columns.distinct();
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return key instanceof String && this.columns.has((String) key);
+    }
+
+    @Override
+    public Object get(final Object key) {
+        Object value = null;
+        if (key instanceof String) {
+            final int idx = this.columns.find((String) key);
+            if (idx >= 0) {
+                value = this.cells[idx];
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        return new AbstractSet<Map.Entry<String, Object>>() {
+            @Override
+            public Iterator<Map.Entry<String, Object>> iterator() {
+                return new Iterator<Map.Entry<String, Object>>() {
+                    /**
+                     * Next distinct name.
+                     */
+                    private int key;
+
+                    @Override
+                    public boolean hasNext() {
+                        return this.key < ArrayRow.this.columns.distinct();
+                    }
+
+                    @Override
+                    public Map.Entry<String, Object> next() {
+                        if (!this.hasNext()) {
+                            throw new NoSuchElementException(
+                                "There are no more columns"
+                            );
+                        }
+                        final int column =
+                            ArrayRow.this.columns.distinct(this.key);
+                        ++this.key;
+                        return new AbstractMap.SimpleImmutableEntry<>(
+                            ArrayRow.this.columns.name(column),
+                            ArrayRow.this.cells[column]
+                        );
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return ArrayRow.this.columns.distinct();
+            }
+        };
+    }
+}
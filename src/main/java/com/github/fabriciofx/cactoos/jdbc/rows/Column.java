@@ -0,0 +1,93 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.rows;
+
+import java.sql.ResultSet;
+
+/**
+ * A column of values stored contiguously, read without boxing.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.3
+ */
+public interface Column {
+    /**
+     * Append the value of the current row.
+     * @param rset A ResultSet positioned on a row
+     * @param index The column index in the ResultSet, starting at 1
+     * @throws Exception If fails
+     */
+    void add(ResultSet rset, int index) throws Exception;
+
+    /**
+     * Is the value null?
+     * @param row The row number
+     * @return True if null or false otherwise
+     */
+    boolean isNull(int row);
+
+    /**
+     * The value, boxed as its DataType reads it: a NULL in a primitive
+     * column is 0 or false, as {@link ResultSet#getInt(int)} gives.
+     * @param row The row number
+     * @return The value
+     */
+    Object value(int row);
+
+    /**
+     * The value as an int.
+     * @param row The row number
+     * @return The value
+     */
+    int intAt(int row);
+
+    /**
+     * The value as a long.
+     * @param row The row number
+     * @return The value
+     */
+    long longAt(int row);
+
+    /**
+     * The value as a double.
+     * @param row The row number
+     * @return The value
+     */
+    double doubleAt(int row);
+
+    /**
+     * The value as a boolean.
+     * @param row The row number
+     * @return The value
+     */
+    boolean boolAt(int row);
+
+    /**
+     * The value as a String.
+     * @param row The row number
+     * @return The value or null
+     */
+    String textAt(int row);
+}
@@ -0,0 +1,142 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.rows;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Order of rows on a column.
+ *
+ * <p>The column is matched ignoring case, like a JDBC column label. Give
+ * the null placement of the database that sorted the rows: ascending, it
+ * is first on MySQL and H2 but last on PostgreSQL.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 0.3
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public final class ColumnOrder implements Comparator<Map<String, Object>> {
+    /**
+     * The column.
+     */
+    private final String column;
+
+    /**
+     * The order of the values.
+     */
+    private final Comparator<Comparable> values;
+
+    /**
+     * The key of the column in the rows, once found.
+     */
+    private final AtomicReference<String> key;
+
+    /**
+     * Ctor.
+     * @param column The column, ascending with nulls first
+     */
+    public ColumnOrder(final String column) {
+        this(column, true, true);
+    }
+
+    /**
+     * Ctor.
+     * @param column The column
+     * @param ascending Is it ascending?
+     * @param nullsfirst Are nulls first?
+     */
+    public ColumnOrder(
+        final String column,
+        final boolean ascending,
+        final boolean nullsfirst
+    ) {
+        this.column = column;
+        this.values = ColumnOrder.values(ascending, nullsfirst);
+        this.key = new AtomicReference<>();
+    }
+
+    @Override
+    public int compare(
+        final Map<String, Object> left,
+        final Map<String, Object> right
+    ) {
+        if (this.key.get() == null) {
+            this.key.set(ColumnOrder.key(left, this.column));
+        }
+        return this.values.compare(
+            (Comparable) left.get(this.key.get()),
+            (Comparable) right.get(this.key.get())
+        );
+    }
+
+    /**
+     * The order of the values.
+     * @param ascending Is it ascending?
+     * @param nullsfirst Are nulls first?
+     * @return The order
+     */
+    private static Comparator<Comparable> values(
+        final boolean ascending,
+        final boolean nullsfirst
+    ) {
+        Comparator<Comparable> order = Comparator.naturalOrder();
+        if (!ascending) {
+            order = order.reversed();
+        }
+        if (nullsfirst) {
+            order = Comparator.nullsFirst(order);
+        } else {
+            order = Comparator.nullsLast(order);
+        }
+        return order;
+    }
+
+    /**
+     * The key of a column in a row, ignoring its case.
+     * @param row The row
+     * @param column The column
+     * @return The key, as named in the row
+     */
+    private static String key(
+        final Map<String, Object> row,
+        final String column
+    ) {
+        String found = null;
+        for (final String name : row.keySet()) {
+            if (name.equals(column)
+                || found == null && name.equalsIgnoreCase(column)) {
+                found = name;
+            }
+        }
+        if (found == null) {
+            throw new IllegalArgumentException(
+                String.format("There is no column '%s' to merge on", column)
+            );
+        }
+        return found;
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.rows;
+
+import com.github.fabriciofx.cactoos.jdbc.DataType;
+import com.github.fabriciofx.cactoos.jdbc.DataTypes;
+import com.github.fabriciofx.cactoos.jdbc.RandomAccessRows;
+import com.github.fabriciofx.cactoos.jdbc.SmartDataTypes;
+import com.github.fabriciofx.cactoos.jdbc.type.BoolType;
+import com.github.fabriciofx.cactoos.jdbc.type.IntType;
+import com.github.fabriciofx.cactoos.jdbc.type.LongType;
+import com.github.fabriciofx.cactoos.jdbc.type.RealType;
+import com.github.fabriciofx.cactoos.jdbc.type.TextType;
+import java.sql.ResultSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Rows stored by column, in primitive arrays chosen by each column's
+ * {@link DataType}.
+ *
+ * <p>The boxed values match {@link RowsAsResultSet}, so a NULL in an INT
+ * column is 0; use {@link #isNull(int, int)} to tell them apart.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.3
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ * @checkstyle CyclomaticComplexityCheck (500 lines)
+ */
+@SuppressWarnings(
+    {
+        "PMD.ConstructorOnlyInitializesOrCallOtherConstructors",
+        "PMD.TooManyMethods"
+    }
+)
+public final class ColumnarRows implements RandomAccessRows {
+    /**
+     * Column names and types.
+     */
+    private final Columns plan;
+
+    /**
+     * Columns.
+     */
+    private final Column[] columns;
+
+    /**
+     * Number of rows.
+     */
+    private final int size;
+
+    /**
+     * Ctor.
+     * @param rset A ResultSet
+     * @throws Exception If fails
+     */
+    public ColumnarRows(final ResultSet rset) throws Exception {
+        this(rset, new SmartDataTypes());
+    }
+
+    /**
+     * Ctor.
+     * @param rset A ResultSet
+     * @param types DataTypes that choose the storage of each column
+     * @throws Exception If fails
+     */
+    public ColumnarRows(
+        final ResultSet rset,
+        final DataTypes types
+    ) throws Exception {
+        this.plan = new Columns(rset.getMetaData(), types);
+        this.columns = new Column[this.plan.count()];
+        for (int idx = 0; idx < this.columns.length; ++idx) {
+            this.columns[idx] = ColumnarRows.column(this.plan.type(idx));
+        }
+        int rows = 0;
+        while (rset.next()) {
+            for (int idx = 0; idx < this.columns.length; ++idx) {
+                this.columns[idx].add(rset, idx + 1);
+            }
+            ++rows;
+        }
+        this.size = rows;
+    }
+
+    /**
+     * Number of rows.
+     * @return The number of rows
+     */
+    public int count() {
+        return this.size;
+    }
+
+    /**
+     * Is the cell null?
+     * @param row The row number
+     * @param column The column number
+     * @return True if null or false otherwise
+     */
+    public boolean isNull(final int row, final int column) {
+        return this.columns[column].isNull(row);
+    }
+
+    /**
+     * The cell as an int.
+     * @param row The row number
+     * @param column The column number
+     * @return The value
+     */
+    public int intAt(final int row, final int column) {
+        return this.columns[column].intAt(row);
+    }
+
+    /**
+     * The cell as a long.
+     * @param row The row number
+     * @param column The column number
+     * @return The value
+     */
+    public long longAt(final int row, final int column) {
+        return this.columns[column].longAt(row);
+    }
+
+    /**
+     * The cell as a double.
+     * @param row The row number
+     * @param column The column number
+     * @return The value
+     */
+    public double doubleAt(final int row, final int column) {
+        return this.columns[column].doubleAt(row);
+    }
+
+    /**
+     * The cell as a boolean.
+     * @param row The row number
+     * @param column The column number
+     * @return The value
+     */
+    public boolean boolAt(final int row, final int column) {
+        return this.columns[column].boolAt(row);
+    }
+
+    /**
+     * The cell as a String.
+     * @param row The row number
+     * @param column The column number
+     * @return The value or null
+     */
+    public String textAt(final int row, final int column) {
+        return this.columns[column].textAt(row);
+    }
+
+    @Override
+    public Iterator<Map<String, Object>> iterator() {
+        return new Iterator<Map<String, Object>>() {
+            /**
+             * Next row number.
+             */
+            private int row;
+
+            @Override
+            public boolean hasNext() {
+                return this.row < ColumnarRows.this.size;
+            }
+
+            @Override
+            public Map<String, Object> next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException(
+                        "There are no more rows"
+                    );
+                }
+                final Column[] cols = ColumnarRows.this.columns;
+                final Object[] cells = new Object[cols.length];
+                for (int idx = 0; idx < cells.length; ++idx) {
+                    cells[idx] = cols[idx].value(this.row);
+                }
+                ++this.row;
+                return new ArrayRow(ColumnarRows.this.plan, cells);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T data(final int row, final int column) {
+        return (T) this.columns[column].value(row);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T data(final int row, final String column) {
+        return (T) this.columns[this.plan.index(column)].value(row);
+    }
+
+    @Override
+    public List<String> columns() {
+        return this.plan.names();
+    }
+
+    @Override
+    public void close() {
+        // Intended empty.
+    }
+
+    /**
+     * Choose the storage of a column from its DataType.
+     *
+     * <p>Only the built-in types have a typed storage, so custom types
+     * and types without one keep their values as objects, exactly as
+     * converted by their DataType.</p>
+     * @param type The DataType of the column
+     * @return A column
+     */
+    private static Column column(final DataType<?> type) {
+        final Column column;
+        if (type instanceof IntType) {
+            column = new IntColumn();
+        } else if (type instanceof LongType) {
+            column = new LongColumn();
+        } else if (type instanceof RealType) {
+            column = new DoubleColumn();
+        } else if (type instanceof BoolType) {
+            column = new BoolColumn();
+        } else if (type instanceof TextType) {
+            column = new TextColumn();
+        } else {
+            column = new ObjectColumn(type);
+        }
+        return column;
+    }
+}
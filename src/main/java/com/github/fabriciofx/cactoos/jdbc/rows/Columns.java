@@ -0,0 +1,256 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.rows;
+
+import com.github.fabriciofx.cactoos.jdbc.DataType;
+import com.github.fabriciofx.cactoos.jdbc.DataTypes;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Columns of a ResultSet.
+ *
+ * <p>Names and {@link DataType}s of all columns, resolved once from the
+ * {@link ResultSetMetaData} and reused for every row. A repeated name maps
+ * to its last column.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.3
+ */
+@SuppressWarnings(
+    {
+        "PMD.UseVarargs",
+        "PMD.ConstructorOnlyInitializesOrCallOtherConstructors"
+    }
+)
+public final class Columns {
+    /**
+     * Column names, in lower case.
+     */
+    private final String[] names;
+
+    /**
+     * Column data types.
+     */
+    private final DataType<?>[] types;
+
+    /**
+     * Column numbers, by name, in the order names first appear.
+     */
+    private final Map<String, Integer> indexes;
+
+    /**
+     * Column numbers of the distinct names, in the order they first appear.
+     */
+    private final int[] distinct;
+
+    /**
+     * Ctor.
+     * @param rsmd The ResultSet metadata
+     * @param typs A DataTypes to resolve each column type
+     * @throws SQLException If fails
+     */
+    public Columns(
+        final ResultSetMetaData rsmd,
+        final DataTypes typs
+    ) throws SQLException {
+        this(Columns.names(rsmd), Columns.types(rsmd, typs));
+    }
+
+    /**
+     * Ctor.
+     * @param nms Column names
+     * @param typs Column data types
+     */
+    public Columns(final String[] nms, final DataType<?>[] typs) {
+        this.names = nms;
+        this.types = typs;
+        this.indexes = new LinkedHashMap<>(nms.length * 2);
+        for (int idx = 0; idx < nms.length; ++idx) {
+            this.indexes.put(nms[idx], idx);
+        }
+        this.distinct = new int[this.indexes.size()];
+        int pos = 0;
+        for (final int idx : this.indexes.values()) {
+            this.distinct[pos] = idx;
+            ++pos;
+        }
+    }
+
+    /**
+     * Number of columns.
+     * @return The number of columns
+     */
+    public int count() {
+        return this.names.length;
+    }
+
+    /**
+     * Name of a column.
+     * @param column The column number, starting at 0
+     * @return The name in lower case
+     */
+    public String name(final int column) {
+        return this.names[column];
+    }
+
+    /**
+     * Number of distinct column names.
+     * @return The number of distinct names
+     */
+    public int distinct() {
+        return this.distinct.length;
+    }
+
+    /**
+     * Column of a distinct name.
+     * @param key The position of the name among the distinct ones
+     * @return The column number, starting at 0
+     */
+    public int distinct(final int key) {
+        return this.distinct[key];
+    }
+
+    /**
+     * The distinct column names, in the order of the keys of a row.
+     * @return The names
+     */
+    public List<String> names() {
+        final List<String> nms = new ArrayList<>(this.distinct.length);
+        for (final int column : this.distinct) {
+            nms.add(this.names[column]);
+        }
+        return nms;
+    }
+
+    /**
+     * Is there a column with this name?
+     * @param name The column name, in any case
+     * @return True if there is or false otherwise
+     */
+    public boolean has(final String name) {
+        return this.find(name) >= 0;
+    }
+
+    /**
+     * Number of a column.
+     * @param name The column name, in any case
+     * @return The column number, starting at 0
+     */
+    public int index(final String name) {
+        final int idx = this.find(name);
+        if (idx < 0) {
+            throw new IllegalArgumentException(
+                new UncheckedText(
+                    new FormattedText("There is no column '%s'", name)
+                ).asString()
+            );
+        }
+        return idx;
+    }
+
+    /**
+     * Look for a column.
+     * @param name The column name, in any case
+     * @return The column number, starting at 0, or -1 if there is none
+     */
+    public int find(final String name) {
+        Integer idx = this.indexes.get(name);
+        if (idx == null) {
+            idx = this.indexes.get(name.toLowerCase());
+        }
+        final int found;
+        if (idx == null) {
+            found = -1;
+        } else {
+            found = idx;
+        }
+        return found;
+    }
+
+    /**
+     * Data type of a column.
+     * @param column The column number, starting at 0
+     * @return The data type
+     */
+    public DataType<?> type(final int column) {
+        return this.types[column];
+    }
+
+    /**
+     * Read all cells of the current row.
+     * @param rset A ResultSet positioned on a row
+     * @return The cells in column order
+     * @throws Exception If fails
+     */
+    public Object[] row(final ResultSet rset) throws Exception {
+        final Object[] cells = new Object[this.types.length];
+        for (int idx = 0; idx < cells.length; ++idx) {
+            cells[idx] = this.types[idx].data(rset, idx + 1);
+        }
+        return cells;
+    }
+
+    /**
+     * Read the column names.
+     * @param rsmd The ResultSet metadata
+     * @return The names in lower case
+     * @throws SQLException If fails
+     */
+    private static String[] names(
+        final ResultSetMetaData rsmd
+    ) throws SQLException {
+        final String[] nms = new String[rsmd.getColumnCount()];
+        for (int idx = 0; idx < nms.length; ++idx) {
+            nms[idx] = rsmd.getColumnName(idx + 1).toLowerCase();
+        }
+        return nms;
+    }
+
+    /**
+     * Resolve the column data types.
+     * @param rsmd The ResultSet metadata
+     * @param typs A DataTypes to resolve each column type
+     * @return The data types
+     * @throws SQLException If fails
+     */
+    private static DataType<?>[] types(
+        final ResultSetMetaData rsmd,
+        final DataTypes typs
+    ) throws SQLException {
+        final DataType<?>[] resolved = new DataType<?>[rsmd.getColumnCount()];
+        for (int idx = 0; idx < resolved.length; ++idx) {
+            resolved[idx] = typs.type(rsmd.getColumnType(idx + 1));
+        }
+        return resolved;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.rows;
+
+import java.sql.ResultSet;
+import java.util.Arrays;
+
+/**
+ * Long integer column, stored in a {@code long[]}.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.3
+ */
+public final class LongColumn implements Column {
+    /**
+     * The values.
+     */
+    private long[] values;
+
+    /**
+     * Rows that are null.
+     */
+    private final Nulls nulls;
+
+    /**
+     * Number of rows.
+     */
+    private int size;
+
+    /**
+     * Ctor.
+     */
+    public LongColumn() {
+        // @checkstyle MagicNumber (1 line)
+        this.values = new long[16];
+        this.nulls = new Nulls();
+    }
+
+    @Override
+    public void add(final ResultSet rset, final int index) throws Exception {
+        if (this.size == this.values.length) {
+            this.values = Arrays.copyOf(this.values, this.size * 2);
+        }
+        this.values[this.size] = rset.getLong(index);
+        this.nulls.mark(this.size, rset.wasNull());
+        ++this.size;
+    }
+
+    @Override
+    public boolean isNull(final int row) {
+        return this.nulls.has(row);
+    }
+
+    @Override
+    public Object value(final int row) {
+        return this.values[row];
+    }
+
+    @Override
+    public int intAt(final int row) {
+        throw new UnsupportedOperationException(
+            "Long integer column can't be read as an int"
+        );
+    }
+
+    @Override
+    public long longAt(final int row) {
+        return this.values[row];
+    }
+
+    @Override
+    public double doubleAt(final int row) {
+        return this.values[row];
+    }
+
+    @Override
+    public boolean boolAt(final int row) {
+        throw new UnsupportedOperationException(
+            "Long integer column can't be read as a boolean"
+        );
+    }
+
+    @Override
+    public String textAt(final int row) {
+        throw new UnsupportedOperationException(
+            "Long integer column can't be read as a String"
+        );
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.rows;
+
+import com.github.fabriciofx.cactoos.jdbc.Rows;
+import java.sql.SQLException;
+import java.util.AbstractMap;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.cactoos.list.ListOf;
+
+/**
+ * Rows merged from many sorted rows, keeping the order.
+ *
+ * <p>Each of the merged rows must already be sorted in the given order,
+ * e.g. a {@link ColumnOrder}. Only their next rows are kept in memory. The
+ * rows can be iterated only once.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.3
+ */
+@SuppressWarnings("PMD.AvoidCatchingGenericException")
+public final class MergedRows implements Rows {
+    /**
+     * The merged rows.
+     */
+    private final List<Rows> merged;
+
+    /**
+     * The order of the rows.
+     */
+    private final Comparator<Map<String, Object>> order;
+
+    /**
+     * Was the iterator already taken?
+     */
+    private final AtomicBoolean taken;
+
+    /**
+     * Ctor.
+     * @param column The sorted column, ascending with nulls first
+     * @param rows The rows to merge
+     */
+    public MergedRows(final String column, final Rows... rows) {
+        this(column, new ListOf<>(rows));
+    }
+
+    /**
+     * Ctor.
+     * @param column The sorted column, ascending with nulls first
+     * @param rows The rows to merge
+     */
+    public MergedRows(final String column, final List<Rows> rows) {
+        this(new ColumnOrder(column), rows);
+    }
+
+    /**
+     * Ctor.
+     * @param order The order of the rows
+     * @param rows The rows to merge
+     */
+    public MergedRows(
+        final Comparator<Map<String, Object>> order,
+        final Rows... rows
+    ) {
+        this(order, new ListOf<>(rows));
+    }
+
+    /**
+     * Ctor.
+     * @param order The order of the rows
+     * @param rows The rows to merge
+     */
+    public MergedRows(
+        final Comparator<Map<String, Object>> order,
+        final List<Rows> rows
+    ) {
+        this.merged = rows;
+        this.order = order;
+        this.taken = new AtomicBoolean();
+    }
+
+    @Override
+    public Iterator<Map<String, Object>> iterator() {
+        if (this.taken.getAndSet(true)) {
+            throw new IllegalStateException(
+                "Merged rows can be iterated only once"
+            );
+        }
+        final PriorityQueue<Map.Entry<Map<String, Object>,
+            Iterator<Map<String, Object>>>> heads = new PriorityQueue<>(
+                Math.max(1, this.merged.size()),
+                (left, right) -> this.order.compare(
+                    left.getKey(),
+                    right.getKey()
+                )
+            );
+        for (final Rows rows : this.merged) {
+            MergedRows.offer(heads, rows.iterator());
+        }
+        return new Iterator<Map<String, Object>>() {
+            @Override
+            public boolean hasNext() {
+                return !heads.isEmpty();
+            }
+
+            @Override
+            public Map<String, Object> next() {
+                if (heads.isEmpty()) {
+                    throw new NoSuchElementException(
+                        "There are no more rows"
+                    );
+                }
+                final Map.Entry<Map<String, Object>,
+                    Iterator<Map<String, Object>>> head = heads.poll();
+                MergedRows.offer(heads, head.getValue());
+                return head.getKey();
+            }
+        };
+    }
+
+    @Override
+    public List<String> columns() throws Exception {
+        final List<String> names;
+        if (this.merged.isEmpty()) {
+            names = new ListOf<>();
+        } else {
+            names = this.merged.get(0).columns();
+        }
+        return names;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        SQLException error = null;
+        for (final Rows rows : this.merged) {
+            try {
+                rows.close();
+            } catch (final SQLException ex) {
+                if (error == null) {
+                    error = ex;
+                } else {
+                    error.addSuppressed(ex);
+                }
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    /**
+     * Put the next row of an iterator in the heads, if there is one.
+     * @param heads The next row of each iterator
+     * @param rows The iterator
+     */
+    private static void offer(
+        final PriorityQueue<Map.Entry<Map<String, Object>,
+            Iterator<Map<String, Object>>>> heads,
+        final Iterator<Map<String, Object>> rows
+    ) {
+        if (rows.hasNext()) {
+            heads.offer(
+                new AbstractMap.SimpleImmutableEntry<>(rows.next(), rows)
+            );
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.rows;
+
+import java.util.Arrays;
+
+/**
+ * A bitmap that tells which rows of a column are null.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.3
+ */
+public final class Nulls {
+    /**
+     * Bits per word.
+     */
+    private static final int BITS = 64;
+
+    /**
+     * The bits, one per row.
+     */
+    private long[] bits;
+
+    /**
+     * Ctor.
+     */
+    public Nulls() {
+        this.bits = new long[1];
+    }
+
+    /**
+     * Mark a row as null or not.
+     * @param row The row number
+     * @param none True if the value is null
+     */
+    public void mark(final int row, final boolean none) {
+        final int word = row / Nulls.BITS;
+        if (word >= this.bits.length) {
+            this.bits = Arrays.copyOf(
+                this.bits,
+                Math.max(word + 1, this.bits.length * 2)
+            );
+        }
+        if (none) {
+            this.bits[word] |= 1L << row;
+        } else {
+            this.bits[word] &= ~(1L << row);
+        }
+    }
+
+    /**
+     * Is the row null?
+     * @param row The row number
+     * @return True if null or false otherwise
+     */
+    public boolean has(final int row) {
+        final int word = row / Nulls.BITS;
+        return word < this.bits.length && (this.bits[word] & 1L << row) != 0;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.rows;
+
+import com.github.fabriciofx.cactoos.jdbc.DataType;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Column of objects read by a {@link DataType}.
+ *
+ * <p>Used for the types that have no primitive representation.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.3
+ */
+public final class ObjectColumn implements Column {
+    /**
+     * The data type.
+     */
+    private final DataType<?> type;
+
+    /**
+     * The values.
+     */
+    private final List<Object> values;
+
+    /**
+     * Ctor.
+     * @param typ The data type
+     */
+    public ObjectColumn(final DataType<?> typ) {
+        this.type = typ;
+        this.values = new ArrayList<>(0);
+    }
+
+    @Override
+    public void add(final ResultSet rset, final int index) throws Exception {
+        final Object value = this.type.data(rset, index);
+        if (rset.wasNull()) {
+            this.values.add(null);
+        } else {
+            this.values.add(value);
+        }
+    }
+
+    @Override
+    public boolean isNull(final int row) {
+        return this.values.get(row) == null;
+    }
+
+    @Override
+    public Object value(final int row) {
+        return this.values.get(row);
+    }
+
+    @Override
+    public int intAt(final int row) {
+        throw new UnsupportedOperationException(
+            "Object column can't be read as an int"
+        );
+    }
+
+    @Override
+    public long longAt(final int row) {
+        throw new UnsupportedOperationException(
+            "Object column can't be read as a long"
+        );
+    }
+
+    @Override
+    public double doubleAt(final int row) {
+        throw new UnsupportedOperationException(
+            "Object column can't be read as a double"
+        );
+    }
+
+    @Override
+    public boolean boolAt(final int row) {
+        throw new UnsupportedOperationException(
+            "Object column can't be read as a boolean"
+        );
+    }
+
+    @Override
+    public String textAt(final int row) {
+        final Object value = this.values.get(row);
+        final String text;
+        if (value == null) {
+            text = null;
+        } else {
+            text = value.toString();
+        }
+        return text;
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.rows;
+
+import com.github.fabriciofx.cactoos.jdbc.Rows;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.cactoos.list.ListOf;
+
+/**
+ * Rows merged from many rows, in order of arrival.
+ *
+ * <p>Each of the merged rows is read by a task on the executor into a
+ * bounded queue. The rows can be iterated only once; closing them stops
+ * the tasks before closing the merged rows.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @since 0.3
+ */
+@SuppressWarnings("PMD.AvoidCatchingGenericException")
+public final class QueuedRows implements Rows {
+    /**
+     * Marks the end of the rows of one of the merged rows.
+     */
+    private static final Map<String, Object> END = new HashMap<>(0);
+
+    /**
+     * The merged rows.
+     */
+    private final List<Rows> merged;
+
+    /**
+     * Where the merged rows are read.
+     */
+    private final Executor executor;
+
+    /**
+     * Rows read and not iterated yet.
+     */
+    private final BlockingQueue<Map<String, Object>> queue;
+
+    /**
+     * The first failure reading the merged rows.
+     */
+    private final AtomicReference<Exception> error;
+
+    /**
+     * Counts the tasks reading the merged rows down as they finish.
+     */
+    private final CountDownLatch pumps;
+
+    /**
+     * Was the iterator already taken?
+     */
+    private final AtomicBoolean taken;
+
+    /**
+     * Is it closed?
+     */
+    private final AtomicBoolean closed;
+
+    /**
+     * Ctor.
+     * @param rows The rows to merge
+     * @param exec Where the merged rows are read
+     */
+    public QueuedRows(final List<Rows> rows, final Executor exec) {
+        // @checkstyle MagicNumber (1 line)
+        this(rows, exec, 1024);
+    }
+
+    /**
+     * Ctor.
+     * @param rows The rows to merge
+     * @param exec Where the merged rows are read
+     * @param capacity Max number of rows read and not iterated yet
+     */
+    public QueuedRows(
+        final List<Rows> rows,
+        final Executor exec,
+        final int capacity
+    ) {
+        this.merged = rows;
+        this.executor = exec;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.error = new AtomicReference<>();
+        this.pumps = new CountDownLatch(rows.size());
+        this.taken = new AtomicBoolean();
+        this.closed = new AtomicBoolean();
+    }
+
+    @Override
+    public Iterator<Map<String, Object>> iterator() {
+        if (this.taken.getAndSet(true)) {
+            throw new IllegalStateException(
+                "Queued rows can be iterated only once"
+            );
+        }
+        int started = 0;
+        try {
+            for (final Rows rows : this.merged) {
+                this.executor.execute(() -> this.pump(rows));
+                ++started;
+            }
+        } finally {
+            for (int idx = started; idx < this.merged.size(); ++idx) {
+                this.pumps.countDown();
+            }
+        }
+        return new Iterator<Map<String, Object>>() {
+            /**
+             * Number of merged rows fully read.
+             */
+            private int ended;
+
+            /**
+             * The next row, if already taken from the queue.
+             */
+            private Map<String, Object> ahead;
+
+            @Override
+            public boolean hasNext() {
+                while (this.ahead == null
+                    && this.ended < QueuedRows.this.merged.size()) {
+                    final Map<String, Object> row = QueuedRows.this.take();
+                    if (row == QueuedRows.END) {
+                        ++this.ended;
+                    } else {
+                        this.ahead = row;
+                    }
+                }
+                return this.ahead != null;
+            }
+
+            @Override
+            public Map<String, Object> next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException(
+                        "There are no more rows"
+                    );
+                }
+                final Map<String, Object> row = this.ahead;
+                this.ahead = null;
+                return row;
+            }
+        };
+    }
+
+    @Override
+    public List<String> columns() throws Exception {
+        final List<String> names;
+        if (this.merged.isEmpty()) {
+            names = new ListOf<>();
+        } else {
+            names = this.merged.get(0).columns();
+        }
+        return names;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (!this.closed.getAndSet(true)) {
+            this.queue.clear();
+            if (this.taken.get()) {
+                try {
+                    this.pumps.await();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            SQLException failure = null;
+            for (final Rows rows : this.merged) {
+                try {
+                    rows.close();
+                } catch (final SQLException ex) {
+                    if (failure == null) {
+                        failure = ex;
+                    } else {
+                        failure.addSuppressed(ex);
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    /**
+     * Read all rows of one of the merged rows into the queue.
+     * @param rows The rows
+     */
+    private void pump(final Rows rows) {
+        try {
+            final Iterator<Map<String, Object>> iter = rows.iterator();
+            while (!this.closed.get() && iter.hasNext()) {
+                this.put(iter.next());
+            }
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            this.error.compareAndSet(null, ex);
+        } finally {
+            try {
+                this.put(QueuedRows.END);
+            } finally {
+                this.pumps.countDown();
+            }
+        }
+    }
+
+    /**
+     * Put a row in the queue, unless these rows are closed.
+     * @param row The row
+     */
+    private void put(final Map<String, Object> row) {
+        try {
+            boolean done = false;
+            while (!done && !this.closed.get()) {
+                // @checkstyle MagicNumber (1 line)
+                done = this.queue.offer(row, 100L, TimeUnit.MILLISECONDS);
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            this.error.compareAndSet(null, ex);
+        }
+    }
+
+    /**
+     * Take the next row from the queue.
+     * @return The row
+     */
+    private Map<String, Object> take() {
+        if (this.closed.get()) {
+            throw new IllegalStateException("The rows are closed");
+        }
+        final Map<String, Object> row;
+        try {
+            row = this.queue.take();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(
+                "Interrupted while waiting for rows",
+                ex
+            );
+        }
+        if (row == QueuedRows.END && this.error.get() != null) {
+            throw new IllegalStateException(
+                "Can't read the merged rows",
+                this.error.get()
+            );
+        }
+        return row;
+    }
+}
@@ -23,17 +23,15 @@
  */
 package com.github.fabriciofx.cactoos.jdbc.rows;
 
-import com.github.fabriciofx.cactoos.jdbc.DataType;
 import com.github.fabriciofx.cactoos.jdbc.DataTypes;
-import com.github.fabriciofx.cactoos.jdbc.Rows;
+import com.github.fabriciofx.cactoos.jdbc.RandomAccessRows;
 import com.github.fabriciofx.cactoos.jdbc.SmartDataTypes;
 import java.sql.ResultSet;
-import java.sql.ResultSetMetaData;
+import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import org.cactoos.iterator.Mapped;
 
 /**
  * Rows as ResultSet.
@@ -47,16 +45,16 @@ import java.util.Map;
         "PMD.SingularField"
     }
 )
-public final class RowsAsResultSet implements Rows {
+public final class RowsAsResultSet implements RandomAccessRows {
     /**
-     * Data set as rows.
+     * Data set as rows of cells.
      */
-    private final List<Map<String, Object>> rows;
+    private final List<Object[]> rows;
 
     /**
-     * Data Types.
+     * The columns, shared by all rows.
      */
-    private final DataTypes types;
+    private final Columns columns;
 
     /**
      * Ctor.
@@ -77,33 +75,40 @@ public final class RowsAsResultSet implements Rows {
         final ResultSet rset,
         final DataTypes typs
     ) throws Exception {
-        this.types = typs;
-        this.rows = new LinkedList<>();
-        final ResultSetMetaData rsmd = rset.getMetaData();
-        final int cols = rsmd.getColumnCount();
+        this.columns = new Columns(rset.getMetaData(), typs);
+        this.rows = new ArrayList<>(0);
         while (rset.next()) {
-            final Map<String, Object> fields = new LinkedHashMap<>();
-            for (int idx = 1; idx <= cols; ++idx) {
-                final String name = rsmd.getColumnName(idx).toLowerCase();
-                final int code = rsmd.getColumnType(idx);
-                final DataType<?> type = this.types.type(code);
-                fields.put(
-                    name,
-                    type.data(rset, idx)
-                );
-            }
-            this.rows.add(fields);
+            this.rows.add(this.columns.row(rset));
         }
     }
 
     @Override
     public Iterator<Map<String, Object>> iterator() {
-        return this.rows.iterator();
+        return new Mapped<>(
+            cells -> new ArrayRow(this.columns, cells),
+            this.rows.iterator()
+        );
     }
 
     @SuppressWarnings("unchecked")
     @Override
-    public <T> T data(final int row, final int column) throws Exception {
-        return (T) this.rows.get(row).values().toArray()[column];
+    public <T> T data(final int row, final int column) {
+        return (T) this.rows.get(row)[column];
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T data(final int row, final String column) {
+        return (T) this.rows.get(row)[this.columns.index(column)];
+    }
+
+    @Override
+    public List<String> columns() {
+        return this.columns.names();
+    }
+
+    @Override
+    public void close() {
+        // Intended empty.
     }
 }
@@ -0,0 +1,573 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.rows;
+
+import com.github.fabriciofx.cactoos.jdbc.DataTypes;
+import com.github.fabriciofx.cactoos.jdbc.RandomAccessRows;
+import com.github.fabriciofx.cactoos.jdbc.SmartDataTypes;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+/**
+ * Rows read from a ResultSet, spilled to disk when too big for memory.
+ *
+ * <p>Rows past a memory budget go to a memory-mapped temporary file,
+ * deleted on close. Values of the usual column types are written
+ * compactly; any other must be {@link Serializable}.</p>
+ *
+ * <p>It is safe to read it from many threads once built.</p>
+ *
+ * @since 0.3
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+@SuppressWarnings(
+    {
+        "PMD.ConstructorOnlyInitializesOrCallOtherConstructors",
+        "PMD.AvoidInstantiatingObjectsInLoops",
+        "PMD.TooManyMethods",
+        "PMD.ExcessiveImports",
+        "PMD.CyclomaticComplexity",
+        "PMD.StdCyclomaticComplexity",
+        "PMD.ModifiedCyclomaticComplexity"
+    }
+)
+public final class SpilledRows implements RandomAccessRows {
+    /**
+     * Max size of a mapped segment of the file.
+     */
+    private static final long SEGMENT = 1L << 30;
+
+    /**
+     * The columns, shared by all rows.
+     */
+    private final Columns columns;
+
+    /**
+     * Rows kept in memory.
+     */
+    private final List<Object[]> memory;
+
+    /**
+     * Address of each spilled row: segment in the high 32 bits and
+     * position in the segment in the low ones.
+     */
+    private final long[] addresses;
+
+    /**
+     * Number of spilled rows.
+     */
+    private final int spilled;
+
+    /**
+     * The mapped segments of the file.
+     */
+    private final List<ByteBuffer> segments;
+
+    /**
+     * The file, if any row was spilled.
+     */
+    private final Path file;
+
+    /**
+     * Ctor.
+     * @param rset A ResultSet
+     * @throws Exception If fails
+     */
+    public SpilledRows(final ResultSet rset) throws Exception {
+        // @checkstyle MagicNumber (1 line)
+        this(rset, 16L << 20);
+    }
+
+    /**
+     * Ctor.
+     * @param rset A ResultSet
+     * @param budget Bytes of rows kept in memory
+     * @throws Exception If fails
+     */
+    public SpilledRows(final ResultSet rset, final long budget)
+        throws Exception {
+        this(rset, new SmartDataTypes(), budget);
+    }
+
+    /**
+     * Ctor.
+     * @param rset A ResultSet
+     * @param typs A DataValues that contains DataValue to convert data
+     * @param budget Bytes of rows kept in memory
+     * @throws Exception If fails
+     */
+    @SuppressWarnings("PMD.CloseResource")
+    public SpilledRows(
+        final ResultSet rset,
+        final DataTypes typs,
+        final long budget
+    ) throws Exception {
+        this.columns = new Columns(rset.getMetaData(), typs);
+        this.memory = new ArrayList<>(0);
+        final ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        final DataOutputStream row = new DataOutputStream(encoded);
+        long used = 0L;
+        Path path = null;
+        OutputStream out = null;
+        long[] addrs = new long[0];
+        int count = 0;
+        final List<Long> sizes = new ArrayList<>(1);
+        long size = 0L;
+        final List<ByteBuffer> mapped;
+        try {
+            while (rset.next()) {
+                final Object[] cells = this.columns.row(rset);
+                encoded.reset();
+                SpilledRows.write(row, cells);
+                if (out == null && used + encoded.size() <= budget) {
+                    used += encoded.size();
+                    this.memory.add(cells);
+                } else {
+                    if (out == null) {
+                        path = Files.createTempFile("cactoos-jdbc", ".rows");
+                        // @checkstyle MagicNumber (3 lines)
+                        out = new BufferedOutputStream(
+                            Files.newOutputStream(path), 1 << 16
+                        );
+                    }
+                    if (size + encoded.size() > SpilledRows.SEGMENT) {
+                        sizes.add(size);
+                        size = 0L;
+                    }
+                    if (count == addrs.length) {
+                        // @checkstyle MagicNumber (1 line)
+                        addrs = Arrays.copyOf(addrs, Math.max(16, count * 2));
+                    }
+                    addrs[count] = (long) sizes.size() << 32 | size;
+                    ++count;
+                    encoded.writeTo(out);
+                    size += encoded.size();
+                }
+            }
+            if (out != null) {
+                out.close();
+                sizes.add(size);
+            }
+            mapped = SpilledRows.mapped(path, sizes);
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            try {
+                if (out != null) {
+                    out.close();
+                }
+            } catch (final IOException err) {
+                ex.addSuppressed(err);
+            }
+            if (path != null) {
+                Files.deleteIfExists(path);
+            }
+            throw ex;
+        }
+        this.addresses = addrs;
+        this.spilled = count;
+        this.file = path;
+        this.segments = mapped;
+    }
+
+    /**
+     * Number of rows.
+     * @return The number of rows
+     */
+    public int count() {
+        return this.memory.size() + this.spilled;
+    }
+
+    @Override
+    public Iterator<Map<String, Object>> iterator() {
+        return new Iterator<Map<String, Object>>() {
+            /**
+             * Next row to read.
+             */
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return this.next < SpilledRows.this.count();
+            }
+
+            @Override
+            public Map<String, Object> next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException("There are no more rows");
+                }
+                final Object[] cells = SpilledRows.this.cells(this.next);
+                ++this.next;
+                return new ArrayRow(SpilledRows.this.columns, cells);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T data(final int row, final int column) throws Exception {
+        final Object value;
+        if (row < this.memory.size()) {
+            value = this.memory.get(row)[column];
+        } else {
+            final ByteBuffer buf = this.buffer(row);
+            for (int idx = 0; idx < column; ++idx) {
+                SpilledRows.skip(buf);
+            }
+            value = SpilledRows.read(buf);
+        }
+        return (T) value;
+    }
+
+    @Override
+    public <T> T data(final int row, final String column) throws Exception {
+        return this.data(row, this.columns.index(column));
+    }
+
+    @Override
+    public List<String> columns() {
+        return this.columns.names();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (this.file != null) {
+            try {
+                Files.deleteIfExists(this.file);
+            } catch (final IOException ex) {
+                this.file.toFile().deleteOnExit();
+            }
+        }
+    }
+
+    /**
+     * All cells of a row.
+     * @param row The row number
+     * @return The cells
+     */
+    private Object[] cells(final int row) {
+        final Object[] cells;
+        if (row < this.memory.size()) {
+            cells = this.memory.get(row);
+        } else {
+            final ByteBuffer buf = this.buffer(row);
+            cells = new Object[this.columns.count()];
+            try {
+                for (int idx = 0; idx < cells.length; ++idx) {
+                    cells[idx] = SpilledRows.read(buf);
+                }
+            } catch (final IOException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * A buffer positioned at the start of a spilled row.
+     * @param row The row number
+     * @return The buffer
+     */
+    private ByteBuffer buffer(final int row) {
+        final long addr = this.addresses[row - this.memory.size()];
+        final ByteBuffer buf = this.segments.get((int) (addr >>> 32))
+            .duplicate();
+        // @checkstyle MagicNumber (1 line)
+        ((Buffer) buf).position((int) (addr & 0xffffffffL));
+        return buf;
+    }
+
+    /**
+     * Map the segments of a file.
+     * @param path The file or null if there is none
+     * @param sizes Size of each segment
+     * @return The mapped segments
+     * @throws IOException If fails
+     */
+    private static List<ByteBuffer> mapped(
+        final Path path,
+        final List<Long> sizes
+    ) throws IOException {
+        final List<ByteBuffer> mapped = new ArrayList<>(sizes.size());
+        if (path != null) {
+            try (
+                final FileChannel channel = FileChannel.open(
+                    path,
+                    StandardOpenOption.READ
+                )
+            ) {
+                long start = 0L;
+                for (final long size : sizes) {
+                    mapped.add(
+                        channel.map(FileChannel.MapMode.READ_ONLY, start, size)
+                    );
+                    start += size;
+                }
+            }
+        }
+        return mapped;
+    }
+
+    /**
+     * Write the cells of a row.
+     * @param out Where to write
+     * @param cells The cells
+     * @throws IOException If a cell can't be written
+     * @checkstyle MagicNumber (60 lines)
+     */
+    private static void write(final DataOutputStream out, final Object[] cells)
+        throws IOException {
+        for (final Object cell : cells) {
+            if (cell == null) {
+                out.writeByte(0);
+            } else if (cell instanceof String) {
+                out.writeByte(1);
+                SpilledRows.bytes(
+                    out,
+                    ((String) cell).getBytes(StandardCharsets.UTF_8)
+                );
+            } else if (cell instanceof Integer) {
+                out.writeByte(2);
+                out.writeInt((Integer) cell);
+            } else if (cell instanceof Long) {
+                out.writeByte(3);
+                out.writeLong((Long) cell);
+            } else if (cell instanceof Double) {
+                out.writeByte(4);
+                out.writeDouble((Double) cell);
+            } else if (cell instanceof Boolean) {
+                out.writeByte(5);
+                out.writeBoolean((Boolean) cell);
+            } else if (cell instanceof BigDecimal) {
+                out.writeByte(6);
+                out.writeInt(((BigDecimal) cell).scale());
+                SpilledRows.bytes(
+                    out,
+                    ((BigDecimal) cell).unscaledValue().toByteArray()
+                );
+            } else if (cell instanceof LocalDate) {
+                out.writeByte(7);
+                out.writeLong(((LocalDate) cell).toEpochDay());
+            } else if (cell instanceof LocalDateTime) {
+                out.writeByte(8);
+                out.writeLong(
+                    ((LocalDateTime) cell).toEpochSecond(ZoneOffset.UTC)
+                );
+                out.writeInt(((LocalDateTime) cell).getNano());
+            } else if (cell instanceof UUID) {
+                out.writeByte(9);
+                out.writeLong(((UUID) cell).getMostSignificantBits());
+                out.writeLong(((UUID) cell).getLeastSignificantBits());
+            } else if (cell instanceof byte[]) {
+                out.writeByte(10);
+                SpilledRows.bytes(out, (byte[]) cell);
+            } else if (cell instanceof Serializable) {
+                out.writeByte(11);
+                final ByteArrayOutputStream obj = new ByteArrayOutputStream();
+                try (
+                    final ObjectOutputStream oos = new ObjectOutputStream(obj)
+                ) {
+                    oos.writeObject(cell);
+                }
+                SpilledRows.bytes(out, obj.toByteArray());
+            } else {
+                throw new NotSerializableException(cell.getClass().getName());
+            }
+        }
+    }
+
+    /**
+     * Write bytes preceded by their length.
+     * @param out Where to write
+     * @param bytes The bytes
+     * @throws IOException If fails
+     */
+    private static void bytes(final DataOutputStream out, final byte[] bytes)
+        throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Read a cell.
+     * @param buf The buffer, positioned at the cell
+     * @return The cell
+     * @throws IOException If it can't be read
+     * @checkstyle MagicNumber (60 lines)
+     */
+    private static Object read(final ByteBuffer buf) throws IOException {
+        final byte tag = buf.get();
+        final Object cell;
+        switch (tag) {
+            case 0:
+                cell = null;
+                break;
+            case 1:
+                cell = new String(
+                    SpilledRows.bytes(buf),
+                    StandardCharsets.UTF_8
+                );
+                break;
+            case 2:
+                cell = buf.getInt();
+                break;
+            case 3:
+                cell = buf.getLong();
+                break;
+            case 4:
+                cell = buf.getDouble();
+                break;
+            case 5:
+                cell = buf.get() != 0;
+                break;
+            case 6:
+                final int scale = buf.getInt();
+                cell = new BigDecimal(
+                    new BigInteger(SpilledRows.bytes(buf)),
+                    scale
+                );
+                break;
+            case 7:
+                cell = LocalDate.ofEpochDay(buf.getLong());
+                break;
+            case 8:
+                final long seconds = buf.getLong();
+                cell = LocalDateTime.ofEpochSecond(
+                    seconds,
+                    buf.getInt(),
+                    ZoneOffset.UTC
+                );
+                break;
+            case 9:
+                final long most = buf.getLong();
+                cell = new UUID(most, buf.getLong());
+                break;
+            case 10:
+                cell = SpilledRows.bytes(buf);
+                break;
+            case 11:
+                try (
+                    final ObjectInputStream ois = new ObjectInputStream(
+                        new ByteArrayInputStream(SpilledRows.bytes(buf))
+                    )
+                ) {
+                    cell = ois.readObject();
+                } catch (final ClassNotFoundException ex) {
+                    throw new IOException(ex);
+                }
+                break;
+            default:
+                throw new IOException(
+                    String.format("Unknown cell type %d", tag)
+                );
+        }
+        return cell;
+    }
+
+    /**
+     * Skip a cell.
+     * @param buf The buffer, positioned at the cell
+     * @throws IOException If it can't be skipped
+     * @checkstyle MagicNumber (40 lines)
+     */
+    private static void skip(final ByteBuffer buf) throws IOException {
+        final byte tag = buf.get();
+        final int size;
+        switch (tag) {
+            case 0:
+                size = 0;
+                break;
+            case 2:
+                size = Integer.BYTES;
+                break;
+            case 3:
+            case 4:
+            case 7:
+                size = Long.BYTES;
+                break;
+            case 5:
+                size = 1;
+                break;
+            case 6:
+                buf.getInt();
+                size = buf.getInt();
+                break;
+            case 8:
+                size = Long.BYTES + Integer.BYTES;
+                break;
+            case 9:
+                size = 2 * Long.BYTES;
+                break;
+            case 1:
+            case 10:
+            case 11:
+                size = buf.getInt();
+                break;
+            default:
+                throw new IOException(
+                    String.format("Unknown cell type %d", tag)
+                );
+        }
+        ((Buffer) buf).position(buf.position() + size);
+    }
+
+    /**
+     * Read bytes preceded by their length.
+     * @param buf The buffer
+     * @return The bytes
+     */
+    private static byte[] bytes(final ByteBuffer buf) {
+        final byte[] bytes = new byte[buf.getInt()];
+        buf.get(bytes);
+        return bytes;
+    }
+}
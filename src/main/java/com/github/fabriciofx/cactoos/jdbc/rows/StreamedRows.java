@@ -0,0 +1,241 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.rows;
+
+import com.github.fabriciofx.cactoos.jdbc.DataTypes;
+import com.github.fabriciofx.cactoos.jdbc.Rows;
+import com.github.fabriciofx.cactoos.jdbc.SmartDataTypes;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.cactoos.Scalar;
+import org.cactoos.list.ListOf;
+import org.cactoos.scalar.StickyScalar;
+
+/**
+ * Rows streamed from an open ResultSet.
+ *
+ * <p>Rows are read only when asked for, once and only forward. The
+ * ResultSet and the given resources are all closed when the iteration
+ * ends or fails, or when these rows are closed.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.3
+ */
+@SuppressWarnings("PMD.AvoidCatchingGenericException")
+public final class StreamedRows implements Rows {
+    /**
+     * The open ResultSet.
+     */
+    private final ResultSet rset;
+
+    /**
+     * Columns, resolved on the first row.
+     */
+    private final Scalar<Columns> columns;
+
+    /**
+     * Resources to close after the ResultSet, in order.
+     */
+    private final Iterable<AutoCloseable> resources;
+
+    /**
+     * Was the iterator already taken?
+     */
+    private final AtomicBoolean taken;
+
+    /**
+     * Is it closed?
+     */
+    private final AtomicBoolean closed;
+
+    /**
+     * Ctor.
+     * @param rset An open ResultSet
+     * @param rsrcs Resources to close after the ResultSet, in order
+     */
+    public StreamedRows(final ResultSet rset, final AutoCloseable... rsrcs) {
+        this(rset, new SmartDataTypes(), rsrcs);
+    }
+
+    /**
+     * Ctor.
+     * @param rset An open ResultSet
+     * @param typs A DataTypes to convert data
+     * @param rsrcs Resources to close after the ResultSet, in order
+     */
+    public StreamedRows(
+        final ResultSet rset,
+        final DataTypes typs,
+        final AutoCloseable... rsrcs
+    ) {
+        this.rset = rset;
+        this.columns = new StickyScalar<>(
+            () -> new Columns(rset.getMetaData(), typs)
+        );
+        this.resources = new ListOf<>(rsrcs);
+        this.taken = new AtomicBoolean();
+        this.closed = new AtomicBoolean();
+    }
+
+    @Override
+    public Iterator<Map<String, Object>> iterator() {
+        if (this.taken.getAndSet(true)) {
+            throw new IllegalStateException(
+                "Streamed rows can be iterated only once"
+            );
+        }
+        return new Iterator<Map<String, Object>>() {
+            /**
+             * Was the cursor moved to the next row?
+             */
+            private boolean fetched;
+
+            /**
+             * Is there a next row?
+             */
+            private boolean more;
+
+            @Override
+            public boolean hasNext() {
+                if (!this.fetched) {
+                    this.more = StreamedRows.this.advance();
+                    this.fetched = true;
+                }
+                return this.more;
+            }
+
+            @Override
+            public Map<String, Object> next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException(
+                        "There are no more rows"
+                    );
+                }
+                this.fetched = false;
+                return StreamedRows.this.row();
+            }
+        };
+    }
+
+    @Override
+    public List<String> columns() throws Exception {
+        return this.columns.value().names();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (!this.closed.getAndSet(true)) {
+            Exception error = StreamedRows.closed(null, this.rset);
+            for (final AutoCloseable resource : this.resources) {
+                error = StreamedRows.closed(error, resource);
+            }
+            if (error instanceof SQLException) {
+                throw (SQLException) error;
+            }
+            if (error != null) {
+                throw new SQLException(error);
+            }
+        }
+    }
+
+    /**
+     * Move the cursor to the next row, closing everything at the end.
+     * @return True if there is a row or false otherwise
+     */
+    private boolean advance() {
+        try {
+            final boolean more = !this.closed.get() && this.rset.next();
+            if (!more) {
+                this.close();
+            }
+            return more;
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            throw this.failure(ex);
+        }
+    }
+
+    /**
+     * Read the current row.
+     * @return The row as names and values
+     */
+    private Map<String, Object> row() {
+        try {
+            final Columns cols = this.columns.value();
+            return new ArrayRow(cols, cols.row(this.rset));
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            throw this.failure(ex);
+        }
+    }
+
+    /**
+     * Close everything after a failure.
+     * @param cause The failure
+     * @return An exception to throw
+     */
+    private IllegalStateException failure(final Exception cause) {
+        final IllegalStateException error = new IllegalStateException(
+            "Can't read the streamed rows",
+            cause
+        );
+        try {
+            this.close();
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            error.addSuppressed(ex);
+        }
+        return error;
+    }
+
+    /**
+     * Close a resource, keeping the first failure.
+     * @param error The first failure so far, or null if none
+     * @param resource The resource to close
+     * @return The first failure, with the later ones suppressed in it
+     */
+    private static Exception closed(
+        final Exception error,
+        final AutoCloseable resource
+    ) {
+        Exception first = error;
+        try {
+            resource.close();
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            if (first == null) {
+                first = ex;
+            } else {
+                first.addSuppressed(ex);
+            }
+        }
+        return first;
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.rows;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Text column, dictionary encoded.
+ *
+ * <p>Each distinct String is stored once and rows keep only its code in an
+ * {@code int[]}, which pays off for columns with repeated values.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.3
+ */
+public final class TextColumn implements Column {
+    /**
+     * Code of a null value.
+     */
+    private static final int NONE = -1;
+
+    /**
+     * Codes of the distinct Strings.
+     */
+    private final Map<String, Integer> codes;
+
+    /**
+     * The distinct Strings, by code.
+     */
+    private final List<String> words;
+
+    /**
+     * The code of each row.
+     */
+    private int[] rows;
+
+    /**
+     * Number of rows.
+     */
+    private int size;
+
+    /**
+     * Ctor.
+     */
+    public TextColumn() {
+        this.codes = new HashMap<>();
+        this.words = new ArrayList<>(0);
+        // @checkstyle MagicNumber (1 line)
+        this.rows = new int[16];
+    }
+
+    @Override
+    public void add(final ResultSet rset, final int index) throws Exception {
+        if (this.size == this.rows.length) {
+            this.rows = Arrays.copyOf(this.rows, this.size * 2);
+        }
+        final String word = rset.getString(index);
+        final int code;
+        if (word == null) {
+            code = TextColumn.NONE;
+        } else {
+            final Integer known = this.codes.get(word);
+            if (known == null) {
+                code = this.words.size();
+                this.words.add(word);
+                this.codes.put(word, code);
+            } else {
+                code = known;
+            }
+        }
+        this.rows[this.size] = code;
+        ++this.size;
+    }
+
+    @Override
+    public boolean isNull(final int row) {
+        return this.rows[row] == TextColumn.NONE;
+    }
+
+    @Override
+    public Object value(final int row) {
+        return this.textAt(row);
+    }
+
+    @Override
+    public int intAt(final int row) {
+        throw new UnsupportedOperationException(
+            "Text column can't be read as an int"
+        );
+    }
+
+    @Override
+    public long longAt(final int row) {
+        throw new UnsupportedOperationException(
+            "Text column can't be read as a long"
+        );
+    }
+
+    @Override
+    public double doubleAt(final int row) {
+        throw new UnsupportedOperationException(
+            "Text column can't be read as a double"
+        );
+    }
+
+    @Override
+    public boolean boolAt(final int row) {
+        throw new UnsupportedOperationException(
+            "Text column can't be read as a boolean"
+        );
+    }
+
+    @Override
+    public String textAt(final int row) {
+        final int code = this.rows[row];
+        final String word;
+        if (code == TextColumn.NONE) {
+            word = null;
+        } else {
+            word = this.words.get(code);
+        }
+        return word;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.session;
+
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import java.sql.Connection;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Session with a bounded number of open connections.
+ *
+ * <p>Asking for a connection when all of them are open waits on a
+ * {@link Semaphore} until one is closed. Connections are not reused: see
+ * {@link PooledSession} for that.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @since 0.3
+ */
+@SuppressWarnings(
+    {
+        "PMD.AvoidCatchingGenericException",
+        "PMD.CloseResource"
+    }
+)
+public final class BoundedSession implements Session {
+    /**
+     * The session.
+     */
+    private final Session origin;
+
+    /**
+     * Connections that still can be opened.
+     */
+    private final Semaphore permits;
+
+    /**
+     * Ctor.
+     * @param session The session
+     * @param max Max number of open connections
+     */
+    public BoundedSession(final Session session, final int max) {
+        this.origin = session;
+        this.permits = new Semaphore(max);
+    }
+
+    @Override
+    public Connection connection() throws Exception {
+        this.permits.acquire();
+        try {
+            return new ReleasingConnection(
+                this.origin.connection(),
+                this.permits::release
+            );
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            this.permits.release();
+            throw ex;
+        }
+    }
+}
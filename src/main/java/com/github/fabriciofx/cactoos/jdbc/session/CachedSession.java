@@ -0,0 +1,93 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.session;
+
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.cache.CachedConnection;
+import com.github.fabriciofx.cactoos.jdbc.cache.StatementCaches;
+import java.sql.Connection;
+
+/**
+ * Session whose connections cache their prepared statements.
+ *
+ * <p>The cache is kept by physical connection and lives as long as it, so
+ * this session can decorate a {@link PooledSession} or be decorated by
+ * it.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @since 0.3
+ */
+public final class CachedSession implements Session {
+    /**
+     * The session that creates physical connections.
+     */
+    private final Session origin;
+
+    /**
+     * Idle statements, by physical connection.
+     */
+    private final StatementCaches caches;
+
+    /**
+     * Ctor.
+     * @param session The session that creates physical connections
+     */
+    public CachedSession(final Session session) {
+        // @checkstyle MagicNumber (1 line)
+        this(session, 64);
+    }
+
+    /**
+     * Ctor.
+     * @param session The session that creates physical connections
+     * @param max Max number of idle statements per connection
+     */
+    public CachedSession(final Session session, final int max) {
+        this.origin = session;
+        this.caches = new StatementCaches(max);
+    }
+
+    @Override
+    public Connection connection() throws Exception {
+        this.caches.prune();
+        return new CachedConnection(this.origin.connection(), this.caches);
+    }
+
+    /**
+     * Number of statements taken from the cache, in all connections.
+     * @return The number of hits
+     */
+    public long hits() {
+        return this.caches.hits();
+    }
+
+    /**
+     * Number of statements not found in the cache, in all connections.
+     * @return The number of misses
+     */
+    public long misses() {
+        return this.caches.misses();
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.session;
+
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.cache.InvalidatingConnection;
+import com.github.fabriciofx.cactoos.jdbc.cache.ResultCache;
+import java.sql.Connection;
+
+/**
+ * Session that keeps a {@link ResultCache} up to date with its writes.
+ *
+ * <p>The results depending on the tables written through it are
+ * invalidated once the write is committed. Wrap it, not the other way
+ * around, in a {@link TransactedSession} for transactions.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @since 0.3
+ */
+public final class InvalidatingSession implements Session {
+    /**
+     * The session.
+     */
+    private final Session origin;
+
+    /**
+     * The cache.
+     */
+    private final ResultCache cache;
+
+    /**
+     * Ctor.
+     * @param session The session
+     * @param cche The cache
+     */
+    public InvalidatingSession(final Session session, final ResultCache cche) {
+        this.origin = session;
+        this.cache = cche;
+    }
+
+    @Override
+    public Connection connection() throws Exception {
+        return new InvalidatingConnection(this.origin.connection(), this.cache);
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.session;
+
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.pool.PooledConnection;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.cactoos.text.FormattedText;
+
+/**
+ * Pooled session.
+ *
+ * <p>Keeps a bounded set of physical connections created by the decorated
+ * session; closing a borrowed {@link Connection} gives it back, reset.
+ * Idle connections are validated before being borrowed.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @since 0.3
+ */
+@SuppressWarnings(
+    {
+        "PMD.AvoidCatchingGenericException",
+        "PMD.CloseResource"
+    }
+)
+public final class PooledSession implements Session, AutoCloseable {
+    /**
+     * The session that creates physical connections.
+     */
+    private final Session origin;
+
+    /**
+     * Seconds to wait when validating an idle connection.
+     */
+    private final int validation;
+
+    /**
+     * Milliseconds to wait for a free connection.
+     */
+    private final long wait;
+
+    /**
+     * Idle physical connections.
+     */
+    private final Queue<Connection> idle;
+
+    /**
+     * Connections that still can be borrowed.
+     */
+    private final Semaphore permits;
+
+    /**
+     * Is the pool closed?
+     */
+    private final AtomicBoolean closed;
+
+    /**
+     * Ctor.
+     * @param session The session that creates physical connections
+     */
+    public PooledSession(final Session session) {
+        // @checkstyle MagicNumber (1 line)
+        this(session, 10);
+    }
+
+    /**
+     * Ctor.
+     * @param session The session that creates physical connections
+     * @param max Max number of physical connections
+     */
+    public PooledSession(final Session session, final int max) {
+        // @checkstyle MagicNumber (1 line)
+        this(session, max, 1, 30_000L);
+    }
+
+    /**
+     * Ctor.
+     * @param session The session that creates physical connections
+     * @param max Max number of physical connections
+     * @param seconds Seconds to wait when validating an idle connection
+     * @param millis Milliseconds to wait for a free connection
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public PooledSession(
+        final Session session,
+        final int max,
+        final int seconds,
+        final long millis
+    ) {
+        this.origin = session;
+        this.validation = seconds;
+        this.wait = millis;
+        this.idle = new ConcurrentLinkedQueue<>();
+        this.permits = new Semaphore(max);
+        this.closed = new AtomicBoolean();
+    }
+
+    @Override
+    public Connection connection() throws Exception {
+        if (this.closed.get()) {
+            throw new SQLException("The pool has been closed");
+        }
+        if (!this.permits.tryAcquire(this.wait, TimeUnit.MILLISECONDS)) {
+            throw new SQLTimeoutException(
+                new FormattedText(
+                    "No connection available in the pool after %d ms",
+                    this.wait
+                ).asString()
+            );
+        }
+        try {
+            return new PooledConnection(this.borrowed(), this::release);
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            this.permits.release();
+            throw ex;
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        this.closed.set(true);
+        Connection conn = this.idle.poll();
+        while (conn != null) {
+            conn.close();
+            conn = this.idle.poll();
+        }
+    }
+
+    /**
+     * Take a valid idle connection or create a new one.
+     * @return A physical connection
+     * @throws Exception If fails
+     */
+    private Connection borrowed() throws Exception {
+        Connection conn = this.idle.poll();
+        while (conn != null && !conn.isValid(this.validation)) {
+            conn.close();
+            conn = this.idle.poll();
+        }
+        if (conn == null) {
+            conn = this.origin.connection();
+        }
+        return conn;
+    }
+
+    /**
+     * Give a physical connection back to the pool.
+     *
+     * <p>The {@link PooledConnection} has already reset the state changed
+     * through it, or closed the physical connection if it couldn't.</p>
+     * @param conn A physical connection
+     * @throws SQLException If fails
+     */
+    private void release(final Connection conn) throws SQLException {
+        try {
+            if (!conn.isClosed()) {
+                if (this.closed.get()) {
+                    conn.close();
+                } else {
+                    this.idle.offer(conn);
+                }
+            }
+        } finally {
+            this.permits.release();
+        }
+    }
+}
@@ -0,0 +1,646 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.session;
+
+import com.github.fabriciofx.cactoos.jdbc.Physical;
+import com.github.fabriciofx.cactoos.jdbc.PhysicalOf;
+import com.github.fabriciofx.cactoos.jdbc.query.SqlScanner;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.NClob;
+import java.sql.PreparedStatement;
+import java.sql.SQLClientInfoException;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.sql.Struct;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Connection routed to the primary or to a replica of a
+ * {@link RoutedSession}.
+ *
+ * <p>The physical connection is taken on the first statement: a read-only
+ * connection or a query in auto-commit mode goes to a replica, unless the
+ * thread has written recently; anything else goes to the primary.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 0.3
+ * @checkstyle ParameterNameCheck (500 lines)
+ * @checkstyle ParameterNumberCheck (500 lines)
+ * @checkstyle TooManyMethods (500 lines)
+ */
+@SuppressWarnings(
+    {
+        "PMD.TooManyMethods",
+        "PMD.LongVariable",
+        "PMD.UseVarargs",
+        "PMD.BooleanGetMethodName",
+        "PMD.ExcessivePublicCount",
+        "PMD.AvoidCatchingGenericException",
+        "PMD.CloseResource"
+    }
+)
+final class RoutedConnection implements Connection, Physical {
+    /**
+     * Keywords starting a query.
+     */
+    private static final Set<String> READS = new HashSet<>(
+        Arrays.asList("SELECT", "WITH")
+    );
+
+    /**
+     * Keywords of a query that writes or locks rows: a data-modifying
+     * WITH, SELECT INTO and the row locks (FOR UPDATE, FOR SHARE, LOCK IN
+     * SHARE MODE).
+     */
+    private static final Set<String> WRITES = new HashSet<>(
+        Arrays.asList(
+            "INSERT", "UPDATE", "DELETE", "MERGE", "INTO", "SHARE", "LOCK"
+        )
+    );
+
+    /**
+     * The session that routes.
+     */
+    private final RoutedSession session;
+
+    /**
+     * The physical connection, once routed.
+     */
+    private final AtomicReference<Connection> origin;
+
+    /**
+     * Is it in auto-commit mode?
+     */
+    private final AtomicBoolean auto;
+
+    /**
+     * Is it read-only?
+     */
+    private final AtomicBoolean readonly;
+
+    /**
+     * Was anything but a query prepared?
+     */
+    private final AtomicBoolean wrote;
+
+    /**
+     * Is it closed?
+     */
+    private final AtomicBoolean closed;
+
+    /**
+     * Ctor.
+     * @param sssn The session that routes
+     */
+    RoutedConnection(final RoutedSession sssn) {
+        this.session = sssn;
+        this.origin = new AtomicReference<>();
+        this.auto = new AtomicBoolean(true);
+        this.readonly = new AtomicBoolean();
+        this.wrote = new AtomicBoolean();
+        this.closed = new AtomicBoolean();
+    }
+
+    @Override
+    public Statement createStatement() throws SQLException {
+        return this.statement("").createStatement();
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(final String sql) throws
+        SQLException {
+        return this.statement(sql).prepareStatement(sql);
+    }
+
+    @Override
+    public CallableStatement prepareCall(final String sql) throws SQLException {
+        return this.statement(sql).prepareCall(sql);
+    }
+
+    @Override
+    public void setAutoCommit(final boolean autoCommit) throws SQLException {
+        this.auto.set(autoCommit);
+        final Connection conn = this.origin.get();
+        if (conn != null) {
+            conn.setAutoCommit(autoCommit);
+        }
+    }
+
+    @Override
+    public boolean getAutoCommit() throws SQLException {
+        return this.auto.get();
+    }
+
+    @Override
+    public void commit() throws SQLException {
+        final Connection conn = this.origin.get();
+        if (conn != null) {
+            conn.commit();
+        }
+    }
+
+    @Override
+    public void rollback() throws SQLException {
+        final Connection conn = this.origin.get();
+        if (conn != null) {
+            conn.rollback();
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (this.closed.compareAndSet(false, true)) {
+            final Connection conn = this.origin.get();
+            if (this.wrote.get()) {
+                this.session.written();
+            }
+            if (conn != null) {
+                try {
+                    if (this.readonly.get() && !conn.isClosed()) {
+                        conn.setReadOnly(false);
+                    }
+                } finally {
+                    conn.close();
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        final Connection conn = this.origin.get();
+        return this.closed.get() || conn != null && conn.isClosed();
+    }
+
+    @Override
+    public void setReadOnly(final boolean readOnly) throws SQLException {
+        this.readonly.set(readOnly);
+        final Connection conn = this.origin.get();
+        if (conn != null) {
+            conn.setReadOnly(readOnly);
+        }
+    }
+
+    @Override
+    public boolean isReadOnly() throws SQLException {
+        return this.readonly.get();
+    }
+
+    @Override
+    public String nativeSQL(final String sql) throws SQLException {
+        return this.routed(false).nativeSQL(sql);
+    }
+
+    @Override
+    public DatabaseMetaData getMetaData() throws SQLException {
+        return this.routed(false).getMetaData();
+    }
+
+    @Override
+    public void setCatalog(final String catalog) throws SQLException {
+        this.routed(false).setCatalog(catalog);
+    }
+
+    @Override
+    public String getCatalog() throws SQLException {
+        return this.routed(false).getCatalog();
+    }
+
+    @Override
+    public void setTransactionIsolation(final int level) throws SQLException {
+        this.routed(false).setTransactionIsolation(level);
+    }
+
+    @Override
+    public int getTransactionIsolation() throws SQLException {
+        return this.routed(false).getTransactionIsolation();
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        return this.routed(false).getWarnings();
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        this.routed(false).clearWarnings();
+    }
+
+    @Override
+    public Statement createStatement(
+        final int resultSetType,
+        final int resultSetConcurrency
+    ) throws SQLException {
+        return this.statement("").createStatement(
+            resultSetType,
+            resultSetConcurrency
+        );
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(
+        final String sql,
+        final int resultSetType,
+        final int resultSetConcurrency
+    ) throws SQLException {
+        return this.statement(sql).prepareStatement(
+            sql,
+            resultSetType,
+            resultSetConcurrency
+        );
+    }
+
+    @Override
+    public CallableStatement prepareCall(
+        final String sql,
+        final int resultSetType,
+        final int resultSetConcurrency
+    ) throws SQLException {
+        return this.statement(sql).prepareCall(
+            sql,
+            resultSetType,
+            resultSetConcurrency
+        );
+    }
+
+    @Override
+    public Map<String, Class<?>> getTypeMap() throws SQLException {
+        return this.routed(false).getTypeMap();
+    }
+
+    @Override
+    public void setTypeMap(final Map<String, Class<?>> map) throws
+        SQLException {
+        this.routed(false).setTypeMap(map);
+    }
+
+    @Override
+    public void setHoldability(final int holdability) throws SQLException {
+        this.routed(false).setHoldability(holdability);
+    }
+
+    @Override
+    public int getHoldability() throws SQLException {
+        return this.routed(false).getHoldability();
+    }
+
+    @Override
+    public Savepoint setSavepoint() throws SQLException {
+        return this.routed(false).setSavepoint();
+    }
+
+    @Override
+    public Savepoint setSavepoint(final String name) throws SQLException {
+        return this.routed(false).setSavepoint(name);
+    }
+
+    @Override
+    public void rollback(final Savepoint savepoint) throws SQLException {
+        this.routed(false).rollback(savepoint);
+    }
+
+    @Override
+    public void releaseSavepoint(
+        final Savepoint savepoint
+    ) throws SQLException {
+        this.routed(false).releaseSavepoint(savepoint);
+    }
+
+    @Override
+    public Statement createStatement(
+        final int resultSetType,
+        final int resultSetConcurrency,
+        final int resultSetHoldability
+    ) throws SQLException {
+        return this.statement("").createStatement(
+            resultSetType,
+            resultSetConcurrency,
+            resultSetHoldability
+        );
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(
+        final String sql,
+        final int resultSetType,
+        final int resultSetConcurrency,
+        final int resultSetHoldability
+    ) throws SQLException {
+        return this.statement(sql).prepareStatement(
+            sql,
+            resultSetType,
+            resultSetConcurrency,
+            resultSetHoldability
+        );
+    }
+
+    @Override
+    public CallableStatement prepareCall(
+        final String sql,
+        final int resultSetType,
+        final int resultSetConcurrency,
+        final int resultSetHoldability
+    ) throws SQLException {
+        return this.statement(sql).prepareCall(
+            sql,
+            resultSetType,
+            resultSetConcurrency,
+            resultSetHoldability
+        );
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(
+        final String sql,
+        final int autoGeneratedKeys
+    ) throws SQLException {
+        return this.statement(sql).prepareStatement(sql, autoGeneratedKeys);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(
+        final String sql,
+        final int[] columnIndexes
+    ) throws SQLException {
+        return this.statement(sql).prepareStatement(sql, columnIndexes);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(
+        final String sql,
+        final String[] columnNames
+    ) throws SQLException {
+        return this.statement(sql).prepareStatement(sql, columnNames);
+    }
+
+    @Override
+    public Clob createClob() throws SQLException {
+        return this.routed(false).createClob();
+    }
+
+    @Override
+    public Blob createBlob() throws SQLException {
+        return this.routed(false).createBlob();
+    }
+
+    @Override
+    public NClob createNClob() throws SQLException {
+        return this.routed(false).createNClob();
+    }
+
+    @Override
+    public SQLXML createSQLXML() throws SQLException {
+        return this.routed(false).createSQLXML();
+    }
+
+    @Override
+    public boolean isValid(final int timeout) throws SQLException {
+        return this.routed(false).isValid(timeout);
+    }
+
+    @Override
+    public void setClientInfo(
+        final String name,
+        final String value
+    ) throws SQLClientInfoException {
+        this.client().setClientInfo(name, value);
+    }
+
+    @Override
+    public void setClientInfo(
+        final Properties properties
+    ) throws SQLClientInfoException {
+        this.client().setClientInfo(properties);
+    }
+
+    @Override
+    public String getClientInfo(final String name) throws SQLException {
+        return this.routed(false).getClientInfo(name);
+    }
+
+    @Override
+    public Properties getClientInfo() throws SQLException {
+        return this.routed(false).getClientInfo();
+    }
+
+    @Override
+    public Array createArrayOf(
+        final String typeName,
+        final Object[] elements
+    ) throws SQLException {
+        return this.routed(false).createArrayOf(typeName, elements);
+    }
+
+    @Override
+    public Struct createStruct(
+        final String typeName,
+        final Object[] attributes
+    ) throws SQLException {
+        return this.routed(false).createStruct(typeName, attributes);
+    }
+
+    @Override
+    public void setSchema(final String schema) throws SQLException {
+        this.routed(false).setSchema(schema);
+    }
+
+    @Override
+    public String getSchema() throws SQLException {
+        return this.routed(false).getSchema();
+    }
+
+    @Override
+    public void abort(final Executor executor) throws SQLException {
+        this.routed(false).abort(executor);
+    }
+
+    @Override
+    public void setNetworkTimeout(
+        final Executor executor,
+        final int milliseconds
+    ) throws SQLException {
+        this.routed(false).setNetworkTimeout(executor, milliseconds);
+    }
+
+    @Override
+    public int getNetworkTimeout() throws SQLException {
+        return this.routed(false).getNetworkTimeout();
+    }
+
+    @Override
+    public <T> T unwrap(final Class<T> iface) throws SQLException {
+        return this.routed(false).unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(final Class<?> iface) throws SQLException {
+        return this.routed(false).isWrapperFor(iface);
+    }
+
+    @Override
+    public Connection physical(final String sql) throws SQLException {
+        return new PhysicalOf(this.statement(sql)).physical(sql);
+    }
+
+    /**
+     * The physical connection where a statement runs.
+     * @param sql The SQL of the statement
+     * @return The physical connection
+     * @throws SQLException If fails
+     */
+    private Connection statement(final String sql) throws SQLException {
+        final boolean query = RoutedConnection.query(sql);
+        if (!query) {
+            this.wrote.set(true);
+        }
+        return this.routed(query);
+    }
+
+    /**
+     * The physical connection, taking it if not taken yet.
+     * @param query Is it taken to run a query?
+     * @return The physical connection
+     * @throws SQLException If fails
+     */
+    private Connection routed(final boolean query) throws SQLException {
+        Connection conn = this.origin.get();
+        if (conn == null) {
+            if (this.closed.get()) {
+                throw new SQLException("The connection is closed");
+            }
+            final boolean replica = (this.readonly.get()
+                || query && this.auto.get()) && !this.session.fresh();
+            try {
+                if (replica) {
+                    conn = this.session.replica();
+                } else {
+                    conn = this.session.primary();
+                }
+            } catch (final SQLException ex) {
+                throw ex;
+                // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final Exception ex) {
+                throw new SQLException(ex);
+            }
+            try {
+                if (this.readonly.get()) {
+                    conn.setReadOnly(true);
+                }
+                if (!this.auto.get()) {
+                    conn.setAutoCommit(false);
+                }
+            } catch (final SQLException ex) {
+                conn.close();
+                throw ex;
+            }
+            this.origin.set(conn);
+        }
+        return conn;
+    }
+
+    /**
+     * The physical connection, to set the client info.
+     * @return The physical connection
+     * @throws SQLClientInfoException If fails
+     */
+    private Connection client() throws SQLClientInfoException {
+        try {
+            return this.routed(false);
+        } catch (final SQLClientInfoException ex) {
+            throw ex;
+        } catch (final SQLException ex) {
+            throw new SQLClientInfoException(ex.getMessage(), null, ex);
+        }
+    }
+
+    /**
+     * Is the SQL a query that can be run on a replica? It is when it starts
+     * with SELECT or WITH and has none of the keywords that write or lock
+     * rows, outside string literals, quoted names and comments.
+     * @param sql The SQL
+     * @return True if it is a query
+     */
+    private static boolean query(final String sql) {
+        final List<String> words = RoutedConnection.words(sql);
+        boolean query = !words.isEmpty()
+            && RoutedConnection.READS.contains(words.get(0));
+        for (final String word : words) {
+            if (RoutedConnection.WRITES.contains(word)) {
+                query = false;
+            }
+        }
+        return query;
+    }
+
+    /**
+     * The upper-cased words of the SQL code, with the string literals,
+     * quoted names and comments left out.
+     * @param sql The SQL
+     * @return The words
+     */
+    @SuppressWarnings("PMD.AvoidReassigningLoopVariables")
+    private static List<String> words(final String sql) {
+        final SqlScanner scanner = new SqlScanner(sql);
+        final List<String> words = new ArrayList<>(16);
+        final int len = sql.length();
+        int pos = 0;
+        while (pos < len) {
+            final int after = scanner.skip(pos);
+            if (after > pos) {
+                pos = after;
+            } else if (Character.isLetter(sql.charAt(pos))) {
+                final int start = pos;
+                while (pos < len
+                    && Character.isJavaIdentifierPart(sql.charAt(pos))) {
+                    ++pos;
+                }
+                words.add(
+                    sql.substring(start, pos).toUpperCase(Locale.ENGLISH)
+                );
+            } else {
+                ++pos;
+            }
+        }
+        return words;
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.session;
+
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.list.ListOf;
+
+/**
+ * Session splitting reads and writes between a primary and its replicas.
+ *
+ * <p>Queries in auto-commit mode and read-only transactions go to the
+ * least used replica, anything else to the primary. After a thread
+ * writes, its reads go to the primary for a while. A query calling a
+ * function with side effects looks like a read: run it in a
+ * transaction.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @since 0.3
+ */
+@SuppressWarnings(
+    {
+        "PMD.AvoidCatchingGenericException",
+        "PMD.CloseResource"
+    }
+)
+public final class RoutedSession implements Session {
+    /**
+     * The primary.
+     */
+    private final Session main;
+
+    /**
+     * The replicas.
+     */
+    private final List<Session> replicas;
+
+    /**
+     * Connections open on each replica.
+     */
+    private final List<AtomicInteger> outstanding;
+
+    /**
+     * Where the search for the least busy replica starts.
+     */
+    private final AtomicInteger next;
+
+    /**
+     * Nanoseconds a thread keeps reading from the primary after a write.
+     */
+    private final long window;
+
+    /**
+     * When the current thread last wrote, in nanoseconds.
+     */
+    private final ThreadLocal<Long> writes;
+
+    /**
+     * Ctor.
+     * @param primary The primary
+     * @param sssns The replicas
+     */
+    public RoutedSession(final Session primary, final Session... sssns) {
+        // @checkstyle MagicNumber (1 line)
+        this(primary, new ListOf<>(sssns), 1000L);
+    }
+
+    /**
+     * Ctor.
+     * @param primary The primary
+     * @param sssns The replicas
+     * @param millis Milliseconds a thread keeps reading from the primary
+     *  after a write
+     */
+    public RoutedSession(
+        final Session primary,
+        final List<Session> sssns,
+        final long millis
+    ) {
+        this.main = primary;
+        this.replicas = sssns;
+        this.outstanding = new ArrayList<>(sssns.size());
+        for (int idx = 0; idx < sssns.size(); ++idx) {
+            this.outstanding.add(new AtomicInteger());
+        }
+        this.next = new AtomicInteger();
+        this.window = TimeUnit.MILLISECONDS.toNanos(millis);
+        this.writes = new ThreadLocal<>();
+    }
+
+    @Override
+    public Connection connection() {
+        return new RoutedConnection(this);
+    }
+
+    /**
+     * A connection to the primary.
+     * @return The connection
+     * @throws Exception If fails
+     */
+    Connection primary() throws Exception {
+        return this.main.connection();
+    }
+
+    /**
+     * A connection to the least busy replica, or to the primary if there
+     * are no replicas.
+     * @return The connection
+     * @throws Exception If fails
+     */
+    Connection replica() throws Exception {
+        final Connection conn;
+        if (this.replicas.isEmpty()) {
+            conn = this.main.connection();
+        } else {
+            final int size = this.replicas.size();
+            final int start = Math.floorMod(this.next.getAndIncrement(), size);
+            int chosen = start;
+            for (int step = 1; step < size; ++step) {
+                final int idx = (start + step) % size;
+                if (this.outstanding.get(idx).get()
+                    < this.outstanding.get(chosen).get()) {
+                    chosen = idx;
+                }
+            }
+            final AtomicInteger open = this.outstanding.get(chosen);
+            open.incrementAndGet();
+            try {
+                conn = new ReleasingConnection(
+                    this.replicas.get(chosen).connection(),
+                    open::decrementAndGet
+                );
+                // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final Exception ex) {
+                open.decrementAndGet();
+                throw ex;
+            }
+        }
+        return conn;
+    }
+
+    /**
+     * Has the current thread written within the read-your-writes window?
+     * @return True if it has
+     */
+    boolean fresh() {
+        final Long last = this.writes.get();
+        return last != null && System.nanoTime() - last < this.window;
+    }
+
+    /**
+     * Tell that the current thread has just written.
+     */
+    void written() {
+        this.writes.set(System.nanoTime());
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.session;
+
+import com.github.fabriciofx.cactoos.jdbc.QueryParam;
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import java.sql.Connection;
+import org.cactoos.scalar.StickyScalar;
+import org.cactoos.scalar.UncheckedScalar;
+
+/**
+ * Session routed to one shard by the value of a query parameter.
+ *
+ * <p>The shard is chosen from {@link Shards} by the text of the parameter,
+ * such as a tenant id, on the first connection and kept for the others.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 0.3
+ */
+public final class ShardedSession implements Session {
+    /**
+     * The shard of the key.
+     */
+    private final UncheckedScalar<Session> shard;
+
+    /**
+     * Ctor.
+     * @param shards The shards
+     * @param key The parameter whose value chooses the shard
+     */
+    public ShardedSession(final Shards shards, final QueryParam key) {
+        this.shard = new UncheckedScalar<>(
+            new StickyScalar<>(() -> shards.shard(key.asString()))
+        );
+    }
+
+    @Override
+    public Connection connection() throws Exception {
+        return this.shard.value().connection();
+    }
+}
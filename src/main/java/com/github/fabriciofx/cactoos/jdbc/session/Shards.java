@@ -0,0 +1,139 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.session;
+
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Sessions chosen by key with consistent hashing.
+ *
+ * <p>Shards are placed by name many times on a ring of hashes, so adding
+ * or removing one moves only about {@code 1/n} of the keys. Iterating
+ * gives every shard once.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @since 0.3
+ */
+public final class Shards implements Iterable<Session> {
+    /**
+     * The shards by name.
+     */
+    private final Map<String, Session> shards;
+
+    /**
+     * The ring: the shards by the hash of their virtual nodes.
+     */
+    private final NavigableMap<Long, Session> ring;
+
+    /**
+     * Ctor.
+     * @param sssns The shards by name
+     */
+    public Shards(final Map<String, Session> sssns) {
+        // @checkstyle MagicNumber (1 line)
+        this(sssns, 160);
+    }
+
+    /**
+     * Ctor.
+     * @param sssns The shards by name
+     * @param vnodes Number of virtual nodes of each shard
+     */
+    public Shards(final Map<String, Session> sssns, final int vnodes) {
+        if (sssns.isEmpty()) {
+            throw new IllegalArgumentException("There are no shards");
+        }
+        this.shards = Collections.unmodifiableMap(sssns);
+        this.ring = Shards.ring(sssns, vnodes);
+    }
+
+    /**
+     * The shard of a key.
+     * @param key The key
+     * @return The shard session
+     */
+    public Session shard(final String key) {
+        Map.Entry<Long, Session> entry = this.ring.ceilingEntry(
+            Shards.hash(key)
+        );
+        if (entry == null) {
+            entry = this.ring.firstEntry();
+        }
+        return entry.getValue();
+    }
+
+    @Override
+    public Iterator<Session> iterator() {
+        return this.shards.values().iterator();
+    }
+
+    /**
+     * Place the virtual nodes of all shards on a ring.
+     * @param sssns The shards by name
+     * @param vnodes Number of virtual nodes of each shard
+     * @return The ring
+     */
+    private static NavigableMap<Long, Session> ring(
+        final Map<String, Session> sssns,
+        final int vnodes
+    ) {
+        final NavigableMap<Long, Session> ring = new TreeMap<>();
+        for (final Map.Entry<String, Session> shard : sssns.entrySet()) {
+            for (int node = 0; node < vnodes; ++node) {
+                ring.put(
+                    Shards.hash(
+                        String.join("#", shard.getKey(), Integer.toString(node))
+                    ),
+                    shard.getValue()
+                );
+            }
+        }
+        return Collections.unmodifiableNavigableMap(ring);
+    }
+
+    /**
+     * Hash a text: 64-bit FNV-1a of its UTF-8 bytes, then mixed with the
+     * SplitMix64 finalizer so close texts land far apart on the ring.
+     * @param text The text
+     * @return The hash
+     * @checkstyle MagicNumber (20 lines)
+     */
+    private static long hash(final String text) {
+        long hash = 0xcbf29ce484222325L;
+        for (final byte octet : text.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= octet & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash = (hash ^ hash >>> 30) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ hash >>> 27) * 0x94d049bb133111ebL;
+        return hash ^ hash >>> 31;
+    }
+}
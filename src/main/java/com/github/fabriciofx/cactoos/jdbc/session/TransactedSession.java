@@ -33,7 +33,7 @@ import org.cactoos.scalar.StickyScalar;
  * Transacted session.
  *
  * <p>Produces a {@link java.sql.Connection} that only closes on commit() or
- * rollback()</p>
+ * rollback(), restoring the read-only flag it had before.</p>
  *
  * @since 0.1
  */
@@ -48,11 +48,30 @@ public final class TransactedSession implements Session {
      * @param session Session
      */
     public TransactedSession(final Session session) {
+        this(session, false);
+    }
+
+    /**
+     * Ctor.
+     * @param session Session
+     * @param readonly Is the transaction read-only?
+     */
+    public TransactedSession(final Session session, final boolean readonly) {
         this.scalar = new StickyScalar<>(
             () -> {
                 final Connection connection = session.connection();
+                final Connection transacted;
+                if (readonly) {
+                    transacted = new TransactedConnection(
+                        connection,
+                        connection.isReadOnly()
+                    );
+                    connection.setReadOnly(true);
+                } else {
+                    transacted = new TransactedConnection(connection);
+                }
                 connection.setAutoCommit(false);
-                return new TransactedConnection(connection);
+                return transacted;
             }
         );
     }
@@ -0,0 +1,151 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.stmt;
+
+import com.github.fabriciofx.cactoos.jdbc.Query;
+import com.github.fabriciofx.cactoos.jdbc.Result;
+import com.github.fabriciofx.cactoos.jdbc.Statement;
+import com.github.fabriciofx.cactoos.jdbc.query.CancelableQuery;
+import java.sql.SQLException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.cactoos.Func;
+
+/**
+ * Statement executed asynchronously.
+ *
+ * <p>The statement is built from a {@link CancelableQuery}, so cancelling
+ * the future cancels the statements it prepared; a failure to cancel them
+ * is logged.</p>
+ *
+ * <p>This class is thread-safe if the statement is.</p>
+ *
+ * @param <T> Type of the result
+ * @since 0.3
+ */
+@SuppressWarnings(
+    {
+        "PMD.AvoidCatchingGenericException",
+        "PMD.LoggerIsNotStaticFinal"
+    }
+)
+public final class AsyncStatement<T> {
+    /**
+     * The statement.
+     */
+    private final Func<Query, Statement<T>> statement;
+
+    /**
+     * The query.
+     */
+    private final Query query;
+
+    /**
+     * Where the statement runs.
+     */
+    private final Executor executor;
+
+    /**
+     * Where a failure to cancel is logged.
+     */
+    private final Logger logger;
+
+    /**
+     * Ctor.
+     * @param stmt Builds the statement from a query that can be cancelled
+     * @param qry The query
+     * @param exec Where the statement runs
+     */
+    public AsyncStatement(
+        final Func<Query, Statement<T>> stmt,
+        final Query qry,
+        final Executor exec
+    ) {
+        this(stmt, qry, exec, Logger.getLogger(AsyncStatement.class.getName()));
+    }
+
+    /**
+     * Ctor.
+     * @param stmt Builds the statement from a query that can be cancelled
+     * @param qry The query
+     * @param exec Where the statement runs
+     * @param lgr Where a failure to cancel is logged
+     */
+    public AsyncStatement(
+        final Func<Query, Statement<T>> stmt,
+        final Query qry,
+        final Executor exec,
+        final Logger lgr
+    ) {
+        this.statement = stmt;
+        this.query = qry;
+        this.executor = exec;
+        this.logger = lgr;
+    }
+
+    /**
+     * Execute it.
+     * @return The future result
+     */
+    public CompletableFuture<Result<T>> result() {
+        final CancelableQuery cancelable = new CancelableQuery(this.query);
+        final CompletableFuture<Result<T>> future =
+            CompletableFuture.supplyAsync(
+                () -> {
+                    if (cancelable.isCancelled()) {
+                        throw new CancellationException();
+                    }
+                    try {
+                        final T value = this.statement.apply(cancelable)
+                            .result().value();
+                        return () -> value;
+                        // @checkstyle IllegalCatchCheck (1 line)
+                    } catch (final Exception ex) {
+                        throw new CompletionException(ex);
+                    }
+                },
+                this.executor
+            );
+        future.whenComplete(
+            (result, error) -> {
+                if (future.isCancelled()) {
+                    try {
+                        cancelable.cancel();
+                    } catch (final SQLException ex) {
+                        this.logger.log(
+                            Level.WARNING,
+                            "Can't cancel the statements of the query",
+                            ex
+                        );
+                    }
+                }
+            }
+        );
+        return future;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.stmt;
+
+import com.github.fabriciofx.cactoos.jdbc.Query;
+import com.github.fabriciofx.cactoos.jdbc.QueryParam;
+import com.github.fabriciofx.cactoos.jdbc.Result;
+import com.github.fabriciofx.cactoos.jdbc.Rows;
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.Statement;
+import com.github.fabriciofx.cactoos.jdbc.cache.ResultCache;
+import com.github.fabriciofx.cactoos.jdbc.query.SimpleQuery;
+import com.github.fabriciofx.cactoos.jdbc.query.SqlTables;
+import org.cactoos.Text;
+
+/**
+ * Select whose rows are cached.
+ *
+ * <p>The rows are kept in the {@link ResultCache} by the SQL and the
+ * params given, or by the key given, and removed when an
+ * {@link com.github.fabriciofx.cactoos.jdbc.session.InvalidatingSession}
+ * sharing the cache commits a write to the tables they are read from.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 0.3
+ */
+public final class CachedSelect implements Statement<Rows> {
+    /**
+     * The cache.
+     */
+    private final ResultCache cache;
+
+    /**
+     * The session.
+     */
+    private final Session session;
+
+    /**
+     * The SQL query.
+     */
+    private final Query query;
+
+    /**
+     * The key of the rows in the cache.
+     */
+    private final Text key;
+
+    /**
+     * Ctor.
+     * @param cche The cache
+     * @param sssn A Session
+     * @param sql The SQL query
+     * @param prms SQL query parameters
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public CachedSelect(
+        final ResultCache cche,
+        final Session sssn,
+        final String sql,
+        final QueryParam... prms
+    ) {
+        this(
+            cche,
+            sssn,
+            new SimpleQuery(sql, prms),
+            () -> CachedSelect.key(sql, prms)
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param cche The cache
+     * @param sssn A Session
+     * @param qry A SQL query
+     * @param text The key of the rows, telling the bound values apart
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public CachedSelect(
+        final ResultCache cche,
+        final Session sssn,
+        final Query qry,
+        final Text text
+    ) {
+        this.cache = cche;
+        this.session = sssn;
+        this.query = qry;
+        this.key = text;
+    }
+
+    @Override
+    public Result<Rows> result() throws Exception {
+        final Rows rows = this.cache.rows(
+            this.key.asString(),
+            () -> new SqlTables(this.query.asString()).value(),
+            () -> new Select(this.session, this.query).result().value()
+        );
+        return () -> rows;
+    }
+
+    /**
+     * The key of a SQL query and its parameters.
+     * @param sql The SQL query
+     * @param prms SQL query parameters
+     * @return The key
+     * @throws Exception If fails
+     */
+    private static String key(final String sql, final QueryParam... prms)
+        throws Exception {
+        final StringBuilder key = new StringBuilder(sql);
+        for (final QueryParam param : prms) {
+            key.append('\u0000')
+                .append(param.name())
+                .append('=')
+                .append(param.asString());
+        }
+        return key.toString();
+    }
+}
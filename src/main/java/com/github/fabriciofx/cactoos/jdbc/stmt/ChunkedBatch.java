@@ -0,0 +1,320 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.stmt;
+
+import com.github.fabriciofx.cactoos.jdbc.QueryParam;
+import com.github.fabriciofx.cactoos.jdbc.QueryParams;
+import com.github.fabriciofx.cactoos.jdbc.Result;
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.Statement;
+import com.github.fabriciofx.cactoos.jdbc.cache.Invalidation;
+import com.github.fabriciofx.cactoos.jdbc.query.BoundBatch;
+import java.sql.Connection;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
+import org.cactoos.Proc;
+import org.cactoos.Text;
+import org.cactoos.list.ListOf;
+
+/**
+ * Batch statements executed in chunks.
+ *
+ * <p>The batch is executed every time it has the max number of rows or of
+ * bound bytes, and, in auto-commit mode, committed if asked to. The result
+ * is the number of affected rows. All rows must have the same parameter
+ * names in the same order.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 0.3
+ */
+@SuppressWarnings("PMD.AvoidCatchingGenericException")
+public final class ChunkedBatch implements Statement<Long> {
+    /**
+     * The session.
+     */
+    private final Session session;
+
+    /**
+     * The SQL query.
+     */
+    private final Text sql;
+
+    /**
+     * Producer of the query parameters of each row.
+     */
+    private final Proc<Proc<QueryParams>> rows;
+
+    /**
+     * Max number of rows per chunk.
+     */
+    private final int max;
+
+    /**
+     * Max number of bytes per chunk, zero for no limit.
+     */
+    private final long bytes;
+
+    /**
+     * Commit after every chunk?
+     */
+    private final boolean commit;
+
+    /**
+     * Ctor.
+     * @param sssn A Session
+     * @param sql The SQL query
+     * @param prms The query parameters of each row
+     */
+    public ChunkedBatch(
+        final Session sssn,
+        final String sql,
+        final QueryParams... prms
+    ) {
+        this(sssn, () -> sql, new ListOf<>(prms));
+    }
+
+    /**
+     * Ctor.
+     * @param sssn A Session
+     * @param sql The SQL query
+     * @param prms The query parameters of each row
+     */
+    public ChunkedBatch(
+        final Session sssn,
+        final Text sql,
+        final Iterable<QueryParams> prms
+    ) {
+        // @checkstyle MagicNumber (1 line)
+        this(sssn, sql, 1000, 0L, false, prms);
+    }
+
+    /**
+     * Ctor.
+     * @param sssn A Session
+     * @param sql The SQL query
+     * @param prms The query parameters of each row
+     */
+    public ChunkedBatch(
+        final Session sssn,
+        final Text sql,
+        final Iterator<QueryParams> prms
+    ) {
+        this(sssn, sql, () -> prms);
+    }
+
+    /**
+     * Ctor.
+     * @param sssn A Session
+     * @param sql The SQL query
+     * @param producer Gives the query parameters of each row to a proc
+     */
+    public ChunkedBatch(
+        final Session sssn,
+        final Text sql,
+        final Proc<Proc<QueryParams>> producer
+    ) {
+        // @checkstyle MagicNumber (1 line)
+        this(sssn, sql, 1000, 0L, false, producer);
+    }
+
+    /**
+     * Ctor.
+     * @param sssn A Session
+     * @param sql The SQL query
+     * @param rows Max number of rows per chunk
+     * @param bytes Max number of bytes per chunk, zero for no limit
+     * @param commit Commit after every chunk?
+     * @param prms The query parameters of each row
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public ChunkedBatch(
+        final Session sssn,
+        final Text sql,
+        final int rows,
+        final long bytes,
+        final boolean commit,
+        final QueryParams... prms
+    ) {
+        this(sssn, sql, rows, bytes, commit, new ListOf<>(prms));
+    }
+
+    /**
+     * Ctor.
+     * @param sssn A Session
+     * @param sql The SQL query
+     * @param rows Max number of rows per chunk
+     * @param bytes Max number of bytes per chunk, zero for no limit
+     * @param commit Commit after every chunk?
+     * @param prms The query parameters of each row
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public ChunkedBatch(
+        final Session sssn,
+        final Text sql,
+        final int rows,
+        final long bytes,
+        final boolean commit,
+        final Iterable<QueryParams> prms
+    ) {
+        this(
+            sssn,
+            sql,
+            rows,
+            bytes,
+            commit,
+            (Proc<Proc<QueryParams>>) row -> {
+                for (final QueryParams params : prms) {
+                    row.exec(params);
+                }
+            }
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param sssn A Session
+     * @param sql The SQL query
+     * @param rows Max number of rows per chunk
+     * @param bytes Max number of bytes per chunk, zero for no limit
+     * @param commit Commit after every chunk?
+     * @param producer Gives the query parameters of each row to a proc
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public ChunkedBatch(
+        final Session sssn,
+        final Text sql,
+        final int rows,
+        final long bytes,
+        final boolean commit,
+        final Proc<Proc<QueryParams>> producer
+    ) {
+        this.session = sssn;
+        this.sql = sql;
+        this.rows = producer;
+        this.max = rows;
+        this.bytes = bytes;
+        this.commit = commit;
+    }
+
+    @Override
+    public Result<Long> result() throws Exception {
+        final AtomicLong total = new AtomicLong();
+        try (final Connection conn = this.session.connection()) {
+            final boolean chunked = this.commit && conn.getAutoCommit();
+            if (chunked) {
+                conn.setAutoCommit(false);
+            }
+            try (final BoundBatch batch = new BoundBatch(conn, this.sql)) {
+                final AtomicLong size = new AtomicLong();
+                this.rows.exec(
+                    row -> {
+                        batch.exec(row);
+                        if (this.bytes > 0L) {
+                            size.addAndGet(ChunkedBatch.size(row));
+                        }
+                        if (batch.pending() >= this.max
+                            || this.bytes > 0L && size.get() >= this.bytes) {
+                            total.addAndGet(this.flush(conn, batch, chunked));
+                            size.set(0L);
+                        }
+                    }
+                );
+                total.addAndGet(this.flush(conn, batch, chunked));
+                // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final Exception ex) {
+                if (chunked) {
+                    conn.rollback();
+                }
+                throw ex;
+            } finally {
+                if (chunked) {
+                    conn.setAutoCommit(true);
+                }
+            }
+        }
+        final long ret = total.get();
+        return () -> ret;
+    }
+
+    /**
+     * Execute the rows added to the batch, if any.
+     * @param conn The connection
+     * @param batch The batch
+     * @param chunked Commit the chunk?
+     * @return Number of affected rows
+     * @throws Exception If fails
+     */
+    private long flush(
+        final Connection conn,
+        final BoundBatch batch,
+        final boolean chunked
+    ) throws Exception {
+        long affected = 0L;
+        if (batch.pending() > 0) {
+            final int[] counts;
+            try {
+                counts = batch.execute();
+                // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final Exception ex) {
+                try {
+                    new Invalidation(this.sql).exec(conn);
+                    // @checkstyle IllegalCatchCheck (1 line)
+                } catch (final Exception inv) {
+                    ex.addSuppressed(inv);
+                }
+                throw ex;
+            }
+            new Invalidation(this.sql).exec(conn);
+            for (final int count : counts) {
+                if (count == java.sql.Statement.SUCCESS_NO_INFO) {
+                    ++affected;
+                } else if (count > 0) {
+                    affected += count;
+                }
+            }
+            if (chunked) {
+                conn.commit();
+            }
+        }
+        return affected;
+    }
+
+    /**
+     * Estimate the size of the data bound by a row.
+     * @param row The query parameters of a row
+     * @return Number of bytes
+     * @throws Exception If fails
+     */
+    private static long size(final QueryParams row) throws Exception {
+        long size = 0L;
+        for (final QueryParam param : row) {
+            final String text = param.asString();
+            if (text != null) {
+                size += text.length();
+            }
+        }
+        return size;
+    }
+}
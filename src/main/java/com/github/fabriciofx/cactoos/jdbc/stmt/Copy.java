@@ -0,0 +1,176 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.stmt;
+
+import com.github.fabriciofx.cactoos.jdbc.QueryParam;
+import com.github.fabriciofx.cactoos.jdbc.QueryParams;
+import com.github.fabriciofx.cactoos.jdbc.Result;
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.Statement;
+import com.github.fabriciofx.cactoos.jdbc.cache.Invalidation;
+import java.sql.Connection;
+import java.util.concurrent.atomic.AtomicReference;
+import org.cactoos.Proc;
+import org.cactoos.list.ListOf;
+
+/**
+ * Bulk load of rows into a table.
+ *
+ * <p>On PostgreSQL the rows are streamed by {@code COPY ... FROM STDIN} as
+ * the text of each param, elsewhere inserted by a {@link ChunkedBatch}.
+ * The columns are named after the params of the first row; the table and
+ * column names must be identifiers. The result is the number of loaded
+ * rows.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 0.3
+ */
+public final class Copy implements Statement<Long> {
+    /**
+     * The session.
+     */
+    private final Session session;
+
+    /**
+     * The table.
+     */
+    private final String table;
+
+    /**
+     * Producer of the query parameters of each row.
+     */
+    private final Proc<Proc<QueryParams>> rows;
+
+    /**
+     * Ctor.
+     * @param sssn A Session
+     * @param table The table
+     * @param prms The query parameters of each row
+     */
+    public Copy(
+        final Session sssn,
+        final String table,
+        final QueryParams... prms
+    ) {
+        this(sssn, table, new ListOf<>(prms));
+    }
+
+    /**
+     * Ctor.
+     * @param sssn A Session
+     * @param table The table
+     * @param prms The query parameters of each row
+     */
+    public Copy(
+        final Session sssn,
+        final String table,
+        final Iterable<QueryParams> prms
+    ) {
+        this(
+            sssn,
+            table,
+            (Proc<Proc<QueryParams>>) row -> {
+                for (final QueryParams params : prms) {
+                    row.exec(params);
+                }
+            }
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param sssn A Session
+     * @param table The table
+     * @param producer Gives the query parameters of each row to a proc
+     */
+    public Copy(
+        final Session sssn,
+        final String table,
+        final Proc<Proc<QueryParams>> producer
+    ) {
+        this.session = sssn;
+        this.table = table;
+        this.rows = producer;
+    }
+
+    @Override
+    public Result<Long> result() throws Exception {
+        final boolean postgres;
+        long total = 0L;
+        try (final Connection conn = this.session.connection()) {
+            postgres = "PostgreSQL".equalsIgnoreCase(
+                conn.getMetaData().getDatabaseProductName()
+            );
+            if (postgres) {
+                total = new PgCopy(conn, this.table, this.rows).value();
+                new Invalidation(
+                    () -> String.join(
+                        " ",
+                        "INSERT INTO",
+                        new Identifier(this.table).asString()
+                    )
+                ).exec(conn);
+            }
+        }
+        if (!postgres) {
+            final AtomicReference<QueryParams> first = new AtomicReference<>();
+            total = new ChunkedBatch(
+                this.session,
+                () -> Copy.insert(this.table, first.get()),
+                row -> this.rows.exec(
+                    params -> {
+                        first.compareAndSet(null, params);
+                        row.exec(params);
+                    }
+                )
+            ).result().value();
+        }
+        final long ret = total;
+        return () -> ret;
+    }
+
+    /**
+     * SQL inserting a row into the table.
+     * @param table The table
+     * @param row The query parameters of a row
+     * @return The SQL
+     */
+    private static String insert(final String table, final QueryParams row) {
+        final StringBuilder names = new StringBuilder();
+        final StringBuilder values = new StringBuilder();
+        for (final QueryParam param : row) {
+            if (names.length() > 0) {
+                names.append(", ");
+                values.append(", ");
+            }
+            names.append(new Identifier(param.name()).asString());
+            values.append(':').append(param.name());
+        }
+        return new StringBuilder("INSERT INTO ")
+            .append(new Identifier(table).asString())
+            .append(" (").append(names).append(") VALUES (")
+            .append(values).append(')').toString();
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.stmt;
+
+import java.util.regex.Pattern;
+import org.cactoos.Text;
+
+/**
+ * Name of a table or column, checked before it goes into SQL.
+ *
+ * <p>It can be qualified (e.g. {@code schema.table}) and each part must be
+ * a plain identifier or a double-quoted one.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @since 0.3
+ */
+final class Identifier implements Text {
+    /**
+     * A part of a name.
+     */
+    private static final String PART =
+        "(?:[A-Za-z_][A-Za-z0-9_$]*|\"[^\"]+\")";
+
+    /**
+     * A valid name.
+     */
+    private static final Pattern VALID = Pattern.compile(
+        String.format("%1$s(?:\\.%1$s)*", Identifier.PART)
+    );
+
+    /**
+     * The name.
+     */
+    private final String name;
+
+    /**
+     * Ctor.
+     * @param name The name
+     */
+    Identifier(final String name) {
+        this.name = name;
+    }
+
+    @Override
+    public String asString() {
+        if (!Identifier.VALID.matcher(this.name).matches()) {
+            throw new IllegalArgumentException(
+                String.format("Invalid SQL identifier: '%s'", this.name)
+            );
+        }
+        return this.name;
+    }
+}
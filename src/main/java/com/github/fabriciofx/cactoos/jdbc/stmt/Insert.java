@@ -27,6 +27,7 @@ import com.github.fabriciofx.cactoos.jdbc.Query;
 import com.github.fabriciofx.cactoos.jdbc.Result;
 import com.github.fabriciofx.cactoos.jdbc.Session;
 import com.github.fabriciofx.cactoos.jdbc.Statement;
+import com.github.fabriciofx.cactoos.jdbc.cache.Invalidation;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 
@@ -61,6 +62,7 @@ public final class Insert implements Statement<Boolean> {
         try (final Connection conn = this.session.connection()) {
             try (final PreparedStatement stmt = this.query.prepared(conn)) {
                 final boolean ret = stmt.execute();
+                new Invalidation(this.query).exec(conn);
                 return () -> ret;
             }
         }
@@ -24,10 +24,11 @@
 package com.github.fabriciofx.cactoos.jdbc.stmt;
 
 import com.github.fabriciofx.cactoos.jdbc.Query;
+import com.github.fabriciofx.cactoos.jdbc.RandomAccessRows;
 import com.github.fabriciofx.cactoos.jdbc.Result;
-import com.github.fabriciofx.cactoos.jdbc.Rows;
 import com.github.fabriciofx.cactoos.jdbc.Session;
 import com.github.fabriciofx.cactoos.jdbc.Statement;
+import com.github.fabriciofx.cactoos.jdbc.cache.Invalidation;
 import com.github.fabriciofx.cactoos.jdbc.rows.RowsAsResultSet;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -66,8 +67,9 @@ public final class InsertWithKeys<T> implements Statement<T> {
         try (final Connection conn = this.session.connection()) {
             try (final PreparedStatement stmt = this.query.prepared(conn)) {
                 stmt.executeUpdate();
+                new Invalidation(this.query).exec(conn);
                 try (final ResultSet rset = stmt.getGeneratedKeys()) {
-                    final Rows rows = new RowsAsResultSet(rset);
+                    final RandomAccessRows rows = new RowsAsResultSet(rset);
                     return () -> rows.data(0, 0);
                 }
             }
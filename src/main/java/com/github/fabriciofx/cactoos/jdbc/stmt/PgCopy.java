@@ -0,0 +1,191 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.stmt;
+
+import com.github.fabriciofx.cactoos.jdbc.QueryParam;
+import com.github.fabriciofx.cactoos.jdbc.QueryParams;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.util.concurrent.atomic.AtomicReference;
+import org.cactoos.Proc;
+import org.cactoos.Scalar;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+/**
+ * Rows streamed to PostgreSQL by {@code COPY ... FROM STDIN}.
+ *
+ * <p>It is kept apart from {@link Copy}, so the PostgreSQL driver is only
+ * needed when copying to PostgreSQL.</p>
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.3
+ */
+@SuppressWarnings("PMD.AvoidCatchingGenericException")
+final class PgCopy implements Scalar<Long> {
+    /**
+     * Number of chars buffered before being sent.
+     */
+    // @checkstyle MagicNumber (1 line)
+    private static final int BUFFER = 64 * 1024;
+
+    /**
+     * The connection.
+     */
+    private final Connection connection;
+
+    /**
+     * The table.
+     */
+    private final String table;
+
+    /**
+     * Producer of the query parameters of each row.
+     */
+    private final Proc<Proc<QueryParams>> rows;
+
+    /**
+     * Ctor.
+     * @param conn A connection to PostgreSQL
+     * @param table The table
+     * @param producer Gives the query parameters of each row to a proc
+     */
+    PgCopy(
+        final Connection conn,
+        final String table,
+        final Proc<Proc<QueryParams>> producer
+    ) {
+        this.connection = conn;
+        this.table = table;
+        this.rows = producer;
+    }
+
+    @Override
+    public Long value() throws Exception {
+        final AtomicReference<CopyIn> copy = new AtomicReference<>();
+        final StringBuilder buffer = new StringBuilder(PgCopy.BUFFER);
+        try {
+            this.rows.exec(
+                row -> {
+                    if (copy.get() == null) {
+                        copy.set(
+                            this.connection.unwrap(PGConnection.class)
+                                .getCopyAPI()
+                                .copyIn(this.sql(row))
+                        );
+                    }
+                    PgCopy.line(buffer, row);
+                    if (buffer.length() >= PgCopy.BUFFER) {
+                        PgCopy.send(copy.get(), buffer);
+                    }
+                }
+            );
+            long total = 0L;
+            if (copy.get() != null) {
+                PgCopy.send(copy.get(), buffer);
+                total = copy.get().endCopy();
+            }
+            return total;
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            if (copy.get() != null && copy.get().isActive()) {
+                copy.get().cancelCopy();
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * The COPY command for the columns of a row.
+     * @param row The query parameters of a row
+     * @return The COPY command
+     */
+    private String sql(final QueryParams row) {
+        final StringBuilder sql = new StringBuilder("COPY ")
+            .append(new Identifier(this.table).asString()).append(" (");
+        boolean first = true;
+        for (final QueryParam param : row) {
+            if (!first) {
+                sql.append(", ");
+            }
+            sql.append(new Identifier(param.name()).asString());
+            first = false;
+        }
+        return sql.append(") FROM STDIN").toString();
+    }
+
+    /**
+     * Append a row in COPY text format.
+     * @param buffer The buffer
+     * @param row The query parameters of a row
+     * @throws Exception If fails
+     */
+    private static void line(final StringBuilder buffer, final QueryParams row)
+        throws Exception {
+        boolean first = true;
+        for (final QueryParam param : row) {
+            if (!first) {
+                buffer.append('\t');
+            }
+            final String text = param.asString();
+            if (text == null) {
+                buffer.append("\\N");
+            } else {
+                for (int idx = 0; idx < text.length(); ++idx) {
+                    final char chr = text.charAt(idx);
+                    if (chr == '\\') {
+                        buffer.append("\\\\");
+                    } else if (chr == '\t') {
+                        buffer.append("\\t");
+                    } else if (chr == '\n') {
+                        buffer.append("\\n");
+                    } else if (chr == '\r') {
+                        buffer.append("\\r");
+                    } else {
+                        buffer.append(chr);
+                    }
+                }
+            }
+            first = false;
+        }
+        buffer.append('\n');
+    }
+
+    /**
+     * Send the buffered rows.
+     * @param copy The COPY operation
+     * @param buffer The buffer
+     * @throws Exception If fails
+     */
+    private static void send(final CopyIn copy, final StringBuilder buffer)
+        throws Exception {
+        if (buffer.length() > 0) {
+            final byte[] bytes = buffer.toString()
+                .getBytes(StandardCharsets.UTF_8);
+            copy.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+    }
+}
@@ -32,6 +32,7 @@ import com.github.fabriciofx.cactoos.jdbc.rows.RowsAsResultSet;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import org.cactoos.Func;
 
 /**
  * Select.
@@ -49,14 +50,34 @@ public final class Select implements Statement<Rows> {
      */
     private final Query query;
 
+    /**
+     * How to read the rows from the ResultSet.
+     */
+    private final Func<ResultSet, Rows> reader;
+
     /**
      * Ctor.
      * @param sssn A Session
      * @param qry A SQL query
      */
     public Select(final Session sssn, final Query qry) {
+        this(sssn, qry, RowsAsResultSet::new);
+    }
+
+    /**
+     * Ctor.
+     * @param sssn A Session
+     * @param qry A SQL query
+     * @param rdr How to read the rows from the ResultSet
+     */
+    public Select(
+        final Session sssn,
+        final Query qry,
+        final Func<ResultSet, Rows> rdr
+    ) {
         this.session = sssn;
         this.query = qry;
+        this.reader = rdr;
     }
 
     @Override
@@ -66,7 +87,7 @@ public final class Select implements Statement<Rows> {
             try (final PreparedStatement stmt = this.query.prepared(conn)) {
                 stmt.execute();
                 try (final ResultSet rset = stmt.getResultSet()) {
-                    final Rows rows = new RowsAsResultSet(rset);
+                    final Rows rows = this.reader.apply(rset);
                     return () -> rows;
                 }
             }
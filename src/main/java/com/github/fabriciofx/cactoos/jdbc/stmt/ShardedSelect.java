@@ -0,0 +1,219 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.stmt;
+
+import com.github.fabriciofx.cactoos.jdbc.Query;
+import com.github.fabriciofx.cactoos.jdbc.Result;
+import com.github.fabriciofx.cactoos.jdbc.Rows;
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.Statement;
+import com.github.fabriciofx.cactoos.jdbc.rows.ColumnOrder;
+import com.github.fabriciofx.cactoos.jdbc.rows.MergedRows;
+import com.github.fabriciofx.cactoos.jdbc.rows.QueuedRows;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import org.cactoos.Func;
+import org.cactoos.list.ListOf;
+
+/**
+ * Select run on many sessions at once.
+ *
+ * <p>The rows streamed from every session (shard) are returned in order of
+ * arrival (see {@link QueuedRows}) or merged in the order each shard is
+ * sorted in (see {@link MergedRows}). If any shard fails, the rows open on
+ * the others are closed.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @since 0.3
+ */
+@SuppressWarnings(
+    {
+        "PMD.AvoidCatchingGenericException",
+        "PMD.CloseResource"
+    }
+)
+public final class ShardedSelect implements Statement<Rows> {
+    /**
+     * The SQL query.
+     */
+    private final Query query;
+
+    /**
+     * The shards.
+     */
+    private final Iterable<Session> sessions;
+
+    /**
+     * Merges the rows of all shards.
+     */
+    private final Func<List<Rows>, Rows> merge;
+
+    /**
+     * Where the query runs on each shard.
+     */
+    private final Executor executor;
+
+    /**
+     * Ctor.
+     * @param qry A SQL query
+     * @param exec Where the query runs and the rows are read on each shard
+     * @param sssns The shards
+     */
+    public ShardedSelect(
+        final Query qry,
+        final Executor exec,
+        final Session... sssns
+    ) {
+        this(
+            qry,
+            new ListOf<>(sssns),
+            rows -> new QueuedRows(rows, exec),
+            exec
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param qry A SQL query, sorted by the column
+     * @param column The merged column, ascending with nulls first
+     * @param exec Where the query runs on each shard
+     * @param sssns The shards
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public ShardedSelect(
+        final Query qry,
+        final String column,
+        final Executor exec,
+        final Session... sssns
+    ) {
+        this(qry, new ColumnOrder(column), exec, sssns);
+    }
+
+    /**
+     * Ctor.
+     * @param qry A SQL query, sorted in the order
+     * @param order The order the rows are merged in
+     * @param exec Where the query runs on each shard
+     * @param sssns The shards
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public ShardedSelect(
+        final Query qry,
+        final Comparator<Map<String, Object>> order,
+        final Executor exec,
+        final Session... sssns
+    ) {
+        this(
+            qry,
+            new ListOf<>(sssns),
+            rows -> new MergedRows(order, rows),
+            exec
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param qry A SQL query
+     * @param sssns The shards
+     * @param mrg Merges the rows of all shards
+     * @param exec Where the query runs on each shard
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public ShardedSelect(
+        final Query qry,
+        final Iterable<Session> sssns,
+        final Func<List<Rows>, Rows> mrg,
+        final Executor exec
+    ) {
+        this.query = qry;
+        this.sessions = sssns;
+        this.merge = mrg;
+        this.executor = exec;
+    }
+
+    @Override
+    public Result<Rows> result() throws Exception {
+        this.query.asString();
+        final List<CompletableFuture<Rows>> futures = new ArrayList<>(0);
+        for (final Session session : this.sessions) {
+            futures.add(
+                CompletableFuture.supplyAsync(
+                    () -> {
+                        try {
+                            return new StreamedSelect(session, this.query)
+                                .result()
+                                .value();
+                            // @checkstyle IllegalCatchCheck (1 line)
+                        } catch (final Exception ex) {
+                            throw new CompletionException(ex);
+                        }
+                    },
+                    this.executor
+                )
+            );
+        }
+        final List<Rows> opened = new ArrayList<>(futures.size());
+        Exception failure = null;
+        for (final CompletableFuture<Rows> future : futures) {
+            try {
+                opened.add(future.join());
+            } catch (final CompletionException ex) {
+                if (failure == null) {
+                    failure = ShardedSelect.cause(ex);
+                } else {
+                    failure.addSuppressed(ShardedSelect.cause(ex));
+                }
+            }
+        }
+        if (failure != null) {
+            for (final Rows rows : opened) {
+                rows.close();
+            }
+            throw failure;
+        }
+        final Rows rows = this.merge.apply(opened);
+        return () -> rows;
+    }
+
+    /**
+     * The failure of a shard.
+     * @param ex The exception completing its future
+     * @return The failure
+     */
+    private static Exception cause(final CompletionException ex) {
+        final Exception cause;
+        if (ex.getCause() instanceof Exception) {
+            cause = (Exception) ex.getCause();
+        } else {
+            cause = ex;
+        }
+        return cause;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.stmt;
+
+import com.github.fabriciofx.cactoos.jdbc.Query;
+import com.github.fabriciofx.cactoos.jdbc.Result;
+import com.github.fabriciofx.cactoos.jdbc.Rows;
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.Statement;
+import com.github.fabriciofx.cactoos.jdbc.rows.StreamedRows;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+
+/**
+ * Streamed select.
+ *
+ * <p>Unlike {@link Select}, it returns {@link StreamedRows} read one row
+ * at a time, keeping the connection open until they are iterated or
+ * closed. The fetch size is only a hint to the driver.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 0.3
+ */
+@SuppressWarnings(
+    {
+        "PMD.AvoidCatchingGenericException",
+        "PMD.CloseResource"
+    }
+)
+public final class StreamedSelect implements Statement<Rows> {
+    /**
+     * The session.
+     */
+    private final Session session;
+
+    /**
+     * The SQL query.
+     */
+    private final Query query;
+
+    /**
+     * Number of rows fetched per round trip.
+     */
+    private final int fetch;
+
+    /**
+     * Ctor.
+     * @param sssn A Session
+     * @param qry A SQL query
+     */
+    public StreamedSelect(final Session sssn, final Query qry) {
+        // @checkstyle MagicNumber (1 line)
+        this(sssn, qry, 100);
+    }
+
+    /**
+     * Ctor.
+     * @param sssn A Session
+     * @param qry A SQL query
+     * @param size Number of rows fetched per round trip
+     */
+    public StreamedSelect(final Session sssn, final Query qry, final int size) {
+        this.session = sssn;
+        this.query = qry;
+        this.fetch = size;
+    }
+
+    @Override
+    public Result<Rows> result() throws Exception {
+        final Connection conn = this.session.connection();
+        try {
+            final PreparedStatement stmt = this.query.prepared(conn);
+            try {
+                stmt.setFetchSize(this.fetch);
+                stmt.execute();
+                final Rows rows = new StreamedRows(
+                    stmt.getResultSet(),
+                    stmt,
+                    conn
+                );
+                return () -> rows;
+                // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final Exception ex) {
+                stmt.close();
+                throw ex;
+            }
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            conn.close();
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.stmt;
+
+import com.github.fabriciofx.cactoos.jdbc.QueryParams;
+import com.github.fabriciofx.cactoos.jdbc.Result;
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.Statement;
+import com.github.fabriciofx.cactoos.jdbc.cache.Invalidation;
+import com.github.fabriciofx.cactoos.jdbc.query.BoundBatch;
+import com.github.fabriciofx.cactoos.jdbc.query.ParsedSql;
+import com.github.fabriciofx.cactoos.jdbc.query.ValuesSql;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.cactoos.Proc;
+import org.cactoos.Text;
+import org.cactoos.list.ListOf;
+
+/**
+ * Batch of a single-row INSERT executed as multi-row INSERTs.
+ *
+ * <p>Each group of rows is inserted by one
+ * {@code INSERT ... VALUES (...), (...), ...} statement, or by a plain
+ * batch when the SQL is not a simple insert (see {@link ValuesSql}). All
+ * rows must have the same names in the same order. The result is the
+ * number of affected rows.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 0.3
+ */
+@SuppressWarnings("PMD.CloseResource")
+public final class ValuesBatch implements Statement<Long> {
+    /**
+     * The session.
+     */
+    private final Session session;
+
+    /**
+     * The SQL query.
+     */
+    private final Text sql;
+
+    /**
+     * Number of rows per statement.
+     */
+    private final int width;
+
+    /**
+     * Producer of the query parameters of each row.
+     */
+    private final Proc<Proc<QueryParams>> rows;
+
+    /**
+     * Ctor.
+     * @param sssn A Session
+     * @param sql The SQL query, inserting a single row
+     * @param prms The query parameters of each row
+     */
+    public ValuesBatch(
+        final Session sssn,
+        final String sql,
+        final QueryParams... prms
+    ) {
+        // @checkstyle MagicNumber (1 line)
+        this(sssn, () -> sql, 100, new ListOf<>(prms));
+    }
+
+    /**
+     * Ctor.
+     * @param sssn A Session
+     * @param sql The SQL query, inserting a single row
+     * @param width Number of rows per statement
+     * @param prms The query parameters of each row
+     */
+    public ValuesBatch(
+        final Session sssn,
+        final Text sql,
+        final int width,
+        final Iterable<QueryParams> prms
+    ) {
+        this(
+            sssn,
+            sql,
+            width,
+            (Proc<Proc<QueryParams>>) row -> {
+                for (final QueryParams params : prms) {
+                    row.exec(params);
+                }
+            }
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param sssn A Session
+     * @param sql The SQL query, inserting a single row
+     * @param width Number of rows per statement
+     * @param producer Gives the query parameters of each row to a proc
+     */
+    public ValuesBatch(
+        final Session sssn,
+        final Text sql,
+        final int width,
+        final Proc<Proc<QueryParams>> producer
+    ) {
+        if (width <= 0) {
+            throw new IllegalArgumentException(
+                String.format("Invalid number of rows per statement: %d", width)
+            );
+        }
+        this.session = sssn;
+        this.sql = sql;
+        this.width = width;
+        this.rows = producer;
+    }
+
+    @Override
+    public Result<Long> result() throws Exception {
+        final AtomicLong total = new AtomicLong();
+        final AtomicReference<PreparedStatement> full =
+            new AtomicReference<>();
+        try (
+            final Connection conn = this.session.connection();
+            final BoundBatch batch = new BoundBatch(conn, this.sql)
+        ) {
+            final List<QueryParams> group = new ArrayList<>(this.width);
+            final AtomicReference<ParsedSql> parsed = new AtomicReference<>();
+            final AtomicReference<ValuesSql> values = new AtomicReference<>();
+            try {
+                this.rows.exec(
+                    row -> {
+                        if (parsed.get() == null) {
+                            parsed.set(new ParsedSql(this.sql, row));
+                            values.set(new ValuesSql(parsed.get().asString()));
+                        }
+                        group.add(row);
+                        if (group.size() == this.width) {
+                            total.addAndGet(
+                                this.insert(
+                                    conn, group, parsed.get(), values.get(),
+                                    full, batch
+                                )
+                            );
+                            group.clear();
+                        }
+                    }
+                );
+                if (!group.isEmpty()) {
+                    total.addAndGet(
+                        this.insert(
+                            conn, group, parsed.get(), values.get(), full, batch
+                        )
+                    );
+                }
+            } finally {
+                if (parsed.get() != null) {
+                    new Invalidation(this.sql).exec(conn);
+                }
+            }
+        } finally {
+            if (full.get() != null) {
+                full.get().close();
+            }
+        }
+        final long ret = total.get();
+        return () -> ret;
+    }
+
+    /**
+     * Insert a group of rows.
+     * @param conn The connection
+     * @param group The rows
+     * @param parsed The SQL of a single row
+     * @param values The SQL of many rows
+     * @param full The statement for a full group, once prepared
+     * @param batch The batch used when the SQL is not a simple insert
+     * @return Number of affected rows
+     * @throws Exception If fails
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private long insert(
+        final Connection conn,
+        final List<QueryParams> group,
+        final ParsedSql parsed,
+        final ValuesSql values,
+        final AtomicReference<PreparedStatement> full,
+        final BoundBatch batch
+    ) throws Exception {
+        long affected = 0L;
+        if (values.simple()) {
+            if (group.size() == this.width) {
+                if (full.get() == null) {
+                    full.set(conn.prepareStatement(values.rows(this.width)));
+                }
+                affected = ValuesBatch.bind(full.get(), group, parsed.plan())
+                    .executeUpdate();
+            } else {
+                try (
+                    final PreparedStatement stmt = conn.prepareStatement(
+                        values.rows(group.size())
+                    )
+                ) {
+                    affected = ValuesBatch.bind(stmt, group, parsed.plan())
+                        .executeUpdate();
+                }
+            }
+        } else {
+            for (final QueryParams row : group) {
+                batch.exec(row);
+            }
+            for (final int count : batch.execute()) {
+                if (count == PreparedStatement.SUCCESS_NO_INFO) {
+                    ++affected;
+                } else if (count > 0) {
+                    affected += count;
+                }
+            }
+        }
+        return affected;
+    }
+
+    /**
+     * Bind a group of rows to a multi-row statement.
+     * @param stmt The statement
+     * @param group The rows
+     * @param plan The binding plan of a single row
+     * @return The statement
+     * @throws Exception If fails
+     */
+    private static PreparedStatement bind(
+        final PreparedStatement stmt,
+        final List<QueryParams> group,
+        final int[][] plan
+    ) throws Exception {
+        int per = 0;
+        for (final int[] positions : plan) {
+            per += positions.length;
+        }
+        final int[][] shifted = new int[plan.length][];
+        for (int idx = 0; idx < plan.length; ++idx) {
+            shifted[idx] = new int[plan[idx].length];
+        }
+        int offset = 0;
+        for (final QueryParams row : group) {
+            for (int idx = 0; idx < plan.length; ++idx) {
+                for (int pos = 0; pos < plan[idx].length; ++pos) {
+                    shifted[idx][pos] = plan[idx][pos] + offset;
+                }
+            }
+            row.prepare(stmt, shifted);
+            offset += per;
+        }
+        return stmt;
+    }
+}
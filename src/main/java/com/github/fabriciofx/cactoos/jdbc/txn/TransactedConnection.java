@@ -23,6 +23,8 @@
  */
 package com.github.fabriciofx.cactoos.jdbc.txn;
 
+import com.github.fabriciofx.cactoos.jdbc.Physical;
+import com.github.fabriciofx.cactoos.jdbc.PhysicalOf;
 import java.sql.Array;
 import java.sql.Blob;
 import java.sql.CallableStatement;
@@ -39,12 +41,16 @@ import java.sql.Savepoint;
 import java.sql.Statement;
 import java.sql.Struct;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.concurrent.Executor;
 
 /**
  * Transacted connection.
  *
+ * <p>It closes only on commit() or rollback(), restoring the read-only
+ * flag it is given before.</p>
+ *
  * @since 0.1
  * @checkstyle ParameterNameCheck (500 lines)
  * @checkstyle ParameterNumberCheck (500 lines)
@@ -59,18 +65,37 @@ import java.util.concurrent.Executor;
         "PMD.ExcessivePublicCount"
     }
 )
-public final class TransactedConnection implements Connection {
+public final class TransactedConnection implements Connection, Physical {
     /**
      * The connection.
      */
     private final Connection origin;
 
+    /**
+     * Read-only flag to restore when the transaction ends, if any.
+     */
+    private final Optional<Boolean> readonly;
+
     /**
      * Ctor.
      * @param connection A Connection
      */
     public TransactedConnection(final Connection connection) {
         this.origin = connection;
+        this.readonly = Optional.empty();
+    }
+
+    /**
+     * Ctor.
+     * @param connection A Connection
+     * @param rdonly Read-only flag to restore when the transaction ends
+     */
+    public TransactedConnection(
+        final Connection connection,
+        final boolean rdonly
+    ) {
+        this.origin = connection;
+        this.readonly = Optional.of(rdonly);
     }
 
     @Override
@@ -107,17 +132,13 @@ public final class TransactedConnection implements Connection {
     @Override
     public void commit() throws SQLException {
         this.origin.commit();
-        if (!this.origin.isClosed()) {
-            this.origin.close();
-        }
+        this.end();
     }
 
     @Override
     public void rollback() throws SQLException {
         this.origin.rollback();
-        if (!this.origin.isClosed()) {
-            this.origin.close();
-        }
+        this.end();
     }
 
     @Override
@@ -422,4 +443,25 @@ public final class TransactedConnection implements Connection {
     public boolean isWrapperFor(final Class<?> iface) throws SQLException {
         return this.origin.isWrapperFor(iface);
     }
+
+    @Override
+    public Connection physical(final String sql) throws SQLException {
+        return new PhysicalOf(this.origin).physical(sql);
+    }
+
+    /**
+     * End the transaction: restore the read-only flag and close.
+     * @throws SQLException If fails
+     */
+    private void end() throws SQLException {
+        if (!this.origin.isClosed()) {
+            try {
+                if (this.readonly.isPresent()) {
+                    this.origin.setReadOnly(this.readonly.get());
+                }
+            } finally {
+                this.origin.close();
+            }
+        }
+    }
 }
@@ -0,0 +1,72 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc;
+
+import com.github.fabriciofx.cactoos.jdbc.query.SimpleQuery;
+import com.github.fabriciofx.cactoos.jdbc.session.NoAuthSession;
+import com.github.fabriciofx.cactoos.jdbc.source.H2Source;
+import com.github.fabriciofx.cactoos.jdbc.stmt.Update;
+import java.sql.Connection;
+import org.cactoos.Scalar;
+import org.cactoos.list.ListOf;
+import org.cactoos.scalar.StickyScalar;
+
+/**
+ * Session to a new H2 database, with a random name, for tests.
+ *
+ * <p>The setup SQL runs before the first connection is returned.</p>
+ *
+ * <p>There is no thread-safety guarantee.</p>
+ *
+ * @since 0.3
+ */
+public final class H2Session implements Session {
+    /**
+     * The session, once the database is set up.
+     */
+    private final Scalar<Session> session;
+
+    /**
+     * Ctor.
+     * @param setup SQL run to set up the database, like creating tables
+     */
+    public H2Session(final String... setup) {
+        this.session = new StickyScalar<>(
+            () -> {
+                final Session sssn = new NoAuthSession(
+                    new H2Source(new RandomDatabaseName().asString())
+                );
+                for (final String sql : new ListOf<>(setup)) {
+                    new Update(sssn, new SimpleQuery(sql)).result();
+                }
+                return sssn;
+            }
+        );
+    }
+
+    @Override
+    public Connection connection() throws Exception {
+        return this.session.value().connection();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc;
+
+import com.github.fabriciofx.cactoos.jdbc.type.AnyType;
+import com.github.fabriciofx.cactoos.jdbc.type.IntType;
+import com.github.fabriciofx.cactoos.jdbc.type.TextType;
+import java.sql.ResultSet;
+import java.sql.Types;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * SmartDataTypes tests.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.3
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+public final class SmartDataTypesTest {
+    @Test
+    public void builtIn() {
+        MatcherAssert.assertThat(
+            "Can't find a built-in data type",
+            new SmartDataTypes().type(Types.VARCHAR),
+            Matchers.instanceOf(TextType.class)
+        );
+    }
+
+    @Test
+    public void sharesBuiltIn() {
+        MatcherAssert.assertThat(
+            "Can't share the built-in data types",
+            new SmartDataTypes().type(Types.INTEGER),
+            Matchers.sameInstance(new SmartDataTypes().type(Types.INTEGER))
+        );
+    }
+
+    @Test
+    public void customFirst() {
+        final DataTypes types = new SmartDataTypes(
+            new DataType<String>() {
+                @Override
+                public boolean match(final int type) {
+                    return type == Types.INTEGER;
+                }
+
+                @Override
+                public String data(
+                    final ResultSet rset,
+                    final int index
+                ) {
+                    return "custom";
+                }
+            }
+        );
+        MatcherAssert.assertThat(
+            "Can't give precedence to a custom data type",
+            types.type(Types.INTEGER),
+            Matchers.not(Matchers.instanceOf(IntType.class))
+        );
+    }
+
+    @Test
+    public void unknown() {
+        MatcherAssert.assertThat(
+            "Can't fall back to any data type",
+            // @checkstyle MagicNumber (1 line)
+            new SmartDataTypes().type(-1000),
+            Matchers.instanceOf(AnyType.class)
+        );
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.bench;
+
+import com.github.fabriciofx.cactoos.jdbc.DataType;
+import com.github.fabriciofx.cactoos.jdbc.DataTypes;
+import com.github.fabriciofx.cactoos.jdbc.RandomDatabaseName;
+import com.github.fabriciofx.cactoos.jdbc.SmartDataTypes;
+import com.github.fabriciofx.cactoos.jdbc.rows.Columns;
+import com.github.fabriciofx.cactoos.jdbc.source.H2Source;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Reading a wide table cell by cell versus with a {@link Columns} plan.
+ *
+ * <p>The table has 50 columns (integers, texts and decimals). The
+ * {@code perCell} benchmark reads it the way rows were read before
+ * {@link Columns}: asking the metadata and the {@link DataTypes} for every
+ * cell. The {@code plan} benchmark resolves the columns once.</p>
+ *
+ * @since 0.3
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings(
+    {
+        "PMD.NonStaticInitializer",
+        "PMD.AvoidInstantiatingObjectsInLoops"
+    }
+)
+public class ColumnsBench {
+    /**
+     * Number of rows in the table.
+     */
+    @Param("1000000")
+    public int rows;
+
+    /**
+     * Connection to the database.
+     */
+    private Connection connection;
+
+    /**
+     * Data types.
+     */
+    private DataTypes types;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        this.connection = new H2Source(
+            new RandomDatabaseName().asString()
+        ).getConnection();
+        this.types = new SmartDataTypes();
+        final StringBuilder create = new StringBuilder(
+            "CREATE TABLE wide (id INT"
+        );
+        final StringBuilder fill = new StringBuilder(
+            "INSERT INTO wide SELECT X"
+        );
+        for (int idx = 1; idx < 50; ++idx) {
+            if (idx % 3 == 0) {
+                create.append(String.format(", c%02d VARCHAR(20)", idx));
+                fill.append(", CONCAT('text-', X)");
+            } else if (idx % 3 == 1) {
+                create.append(String.format(", c%02d DECIMAL(20,2)", idx));
+                fill.append(", X / 7.0");
+            } else {
+                create.append(String.format(", c%02d INT", idx));
+                fill.append(", X * ").append(idx);
+            }
+        }
+        create.append(')');
+        fill.append(" FROM SYSTEM_RANGE(1, ").append(this.rows).append(')');
+        try (final Statement stmt = this.connection.createStatement()) {
+            stmt.execute(create.toString());
+            stmt.execute(fill.toString());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() throws Exception {
+        this.connection.close();
+    }
+
+    @Benchmark
+    public void perCell(final Blackhole hole) throws Exception {
+        try (
+            final Statement stmt = this.connection.createStatement();
+            final ResultSet rset = stmt.executeQuery("SELECT * FROM wide")
+        ) {
+            final ResultSetMetaData rsmd = rset.getMetaData();
+            final int cols = rsmd.getColumnCount();
+            while (rset.next()) {
+                for (int idx = 1; idx <= cols; ++idx) {
+                    hole.consume(rsmd.getColumnName(idx).toLowerCase());
+                    final DataType<?> type = this.types.type(
+                        rsmd.getColumnType(idx)
+                    );
+                    hole.consume(type.data(rset, idx));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void plan(final Blackhole hole) throws Exception {
+        try (
+            final Statement stmt = this.connection.createStatement();
+            final ResultSet rset = stmt.executeQuery("SELECT * FROM wide")
+        ) {
+            final Columns columns = new Columns(rset.getMetaData(), this.types);
+            while (rset.next()) {
+                hole.consume(columns.row(rset));
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.bench;
+
+import com.github.fabriciofx.cactoos.jdbc.query.SqlScanner;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Parsing named parameters with a regex versus with {@link SqlScanner}.
+ *
+ * <p>The SQL is an INSERT with the given number of columns, each bound to
+ * a named parameter. The {@code regex} benchmark parses it the way
+ * {@code ParsedSql} did before {@link SqlScanner}: compiling the pattern,
+ * finding the names and replacing them.</p>
+ *
+ * @since 0.3
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParsedSqlBench {
+    /**
+     * Number of columns in the SQL.
+     */
+    @Param({"5", "200"})
+    public int columns;
+
+    /**
+     * SQL with named parameters.
+     */
+    private String sql;
+
+    @Setup
+    public void setup() {
+        final StringBuilder names = new StringBuilder();
+        final StringBuilder values = new StringBuilder();
+        for (int idx = 0; idx < this.columns; ++idx) {
+            if (idx > 0) {
+                names.append(", ");
+                values.append(", ");
+            }
+            names.append("column_").append(idx);
+            values.append(":param_").append(idx);
+        }
+        this.sql = String.format(
+            "INSERT INTO employee (%s) VALUES (%s)", names, values
+        );
+    }
+
+    @Benchmark
+    public void regex(final Blackhole hole) {
+        final Pattern pattern = Pattern.compile("(?<!')(:[\\w]*)(?!')");
+        final Matcher matcher = pattern.matcher(this.sql);
+        final List<String> names = new LinkedList<>();
+        while (matcher.find()) {
+            names.add(matcher.group().substring(1));
+        }
+        hole.consume(names);
+        hole.consume(matcher.replaceAll("?"));
+    }
+
+    @Benchmark
+    public void scanner(final Blackhole hole) {
+        hole.consume(new SqlScanner(this.sql).value());
+    }
+}
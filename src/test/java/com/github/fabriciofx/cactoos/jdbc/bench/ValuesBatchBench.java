@@ -0,0 +1,167 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.bench;
+
+import com.github.fabriciofx.cactoos.jdbc.QueryParams;
+import com.github.fabriciofx.cactoos.jdbc.RandomDatabaseName;
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.SmartQueryParams;
+import com.github.fabriciofx.cactoos.jdbc.query.BatchQuery;
+import com.github.fabriciofx.cactoos.jdbc.query.SimpleQuery;
+import com.github.fabriciofx.cactoos.jdbc.query.param.IntParam;
+import com.github.fabriciofx.cactoos.jdbc.query.param.TextParam;
+import com.github.fabriciofx.cactoos.jdbc.session.NoAuthSession;
+import com.github.fabriciofx.cactoos.jdbc.session.PooledSession;
+import com.github.fabriciofx.cactoos.jdbc.source.H2Source;
+import com.github.fabriciofx.cactoos.jdbc.stmt.Batch;
+import com.github.fabriciofx.cactoos.jdbc.stmt.Update;
+import com.github.fabriciofx.cactoos.jdbc.stmt.ValuesBatch;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.Text;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Inserting rows with a plain {@link Batch} versus a {@link ValuesBatch}.
+ *
+ * <p>Every invocation inserts the same rows into an empty H2 table.</p>
+ *
+ * @since 0.3
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+public class ValuesBatchBench {
+    /**
+     * Number of rows inserted.
+     */
+    @Param("10000")
+    public int rows;
+
+    /**
+     * Number of rows per multi-row insert.
+     */
+    @Param("100")
+    public int width;
+
+    /**
+     * SQL inserting a row.
+     */
+    private final Text sql = () -> String.join(
+        " ",
+        "INSERT INTO item (id, name, price)",
+        "VALUES (:id, :name, :price)"
+    );
+
+    /**
+     * The session.
+     */
+    private PooledSession session;
+
+    /**
+     * Query parameters of each row.
+     */
+    private List<QueryParams> params;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        this.session = new PooledSession(
+            new NoAuthSession(
+                new H2Source(new RandomDatabaseName().asString())
+            ),
+            1
+        );
+        this.params = new ArrayList<>(this.rows);
+        for (int idx = 0; idx < this.rows; ++idx) {
+            this.params.add(
+                new SmartQueryParams(
+                    new IntParam("id", idx),
+                    new TextParam("name", String.format("item %d", idx)),
+                    new IntParam("price", idx % 1000)
+                )
+            );
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void table() throws Exception {
+        new Update(
+            this.session,
+            new SimpleQuery("DROP TABLE IF EXISTS item")
+        ).result();
+        new Update(
+            this.session,
+            new SimpleQuery(
+                String.join(
+                    " ",
+                    "CREATE TABLE item (id INT PRIMARY KEY,",
+                    "name VARCHAR(20), price INT)"
+                )
+            )
+        ).result();
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() throws Exception {
+        this.session.close();
+    }
+
+    @Benchmark
+    public int[] batch() throws Exception {
+        return new Batch(
+            this.session,
+            new BatchQuery(this.sql, this.params)
+        ).result().value();
+    }
+
+    @Benchmark
+    public long values() throws Exception {
+        return new ValuesBatch(
+            this.session,
+            this.sql,
+            this.width,
+            this.params
+        ).result().value();
+    }
+}
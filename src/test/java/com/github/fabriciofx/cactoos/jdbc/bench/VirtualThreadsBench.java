@@ -0,0 +1,188 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.bench;
+
+import com.github.fabriciofx.cactoos.jdbc.RandomDatabaseName;
+import com.github.fabriciofx.cactoos.jdbc.Result;
+import com.github.fabriciofx.cactoos.jdbc.Rows;
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.concurrent.VirtualThreads;
+import com.github.fabriciofx.cactoos.jdbc.query.SimpleQuery;
+import com.github.fabriciofx.cactoos.jdbc.query.param.IntParam;
+import com.github.fabriciofx.cactoos.jdbc.session.BoundedSession;
+import com.github.fabriciofx.cactoos.jdbc.session.NoAuthSession;
+import com.github.fabriciofx.cactoos.jdbc.source.H2Source;
+import com.github.fabriciofx.cactoos.jdbc.stmt.AsyncStatement;
+import com.github.fabriciofx.cactoos.jdbc.stmt.Select;
+import com.github.fabriciofx.cactoos.jdbc.stmt.Update;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+/**
+ * Many concurrent selects on virtual threads versus a platform pool.
+ *
+ * <p>Every invocation starts all the selects at once with
+ * {@link AsyncStatement} and waits for them. The connections are bounded
+ * by a {@link BoundedSession} in both cases, so the threads park on its
+ * semaphore while waiting for a connection. On a runtime without virtual
+ * threads (before Java 21) the virtual benchmark fails in its setup, so
+ * JMH skips it and still runs the platform one.</p>
+ *
+ * @since 0.3
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings(
+    {
+        "PMD.AvoidInstantiatingObjectsInLoops",
+        "PMD.UnusedLocalVariable"
+    }
+)
+public class VirtualThreadsBench {
+    /**
+     * Number of concurrent selects.
+     */
+    @Param("10000")
+    public int selects;
+
+    /**
+     * Max number of connections.
+     */
+    @Param("16")
+    public int connections;
+
+    /**
+     * The session.
+     */
+    private Session session;
+
+    @Setup(Level.Trial)
+    public void setup(final BenchmarkParams params) throws Exception {
+        if (params.getBenchmark().endsWith(".virtual")
+            && !VirtualThreadsBench.virtuals()) {
+            throw new IllegalStateException(
+                "Virtual threads are not available, skipping"
+            );
+        }
+        this.session = new BoundedSession(
+            new NoAuthSession(
+                new H2Source(new RandomDatabaseName().asString())
+            ),
+            this.connections
+        );
+        new Update(
+            this.session,
+            new SimpleQuery(
+                String.join(
+                    " ",
+                    "CREATE TABLE item AS",
+                    "SELECT CAST(X AS INT) AS id FROM SYSTEM_RANGE(1, 1000)"
+                )
+            )
+        ).result();
+    }
+
+    @Benchmark
+    public int virtual() throws Exception {
+        return this.run(new VirtualThreads(this.connections).value());
+    }
+
+    @Benchmark
+    public int platform() throws Exception {
+        return this.run(Executors.newFixedThreadPool(this.connections));
+    }
+
+    /**
+     * Does the runtime have virtual threads?
+     * @return True if it has
+     */
+    private static boolean virtuals() {
+        boolean has;
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            has = true;
+        } catch (final NoSuchMethodException ex) {
+            has = false;
+        }
+        return has;
+    }
+
+    /**
+     * Run all the selects at once and wait for them.
+     * @param executor Where the selects run
+     * @return Number of rows read
+     * @throws Exception If fails
+     */
+    private int run(final ExecutorService executor) throws Exception {
+        try {
+            final List<CompletableFuture<Result<Rows>>> futures =
+                new ArrayList<>(this.selects);
+            for (int idx = 0; idx < this.selects; ++idx) {
+                futures.add(
+                    new AsyncStatement<>(
+                        qry -> new Select(this.session, qry),
+                        new SimpleQuery(
+                            "SELECT id FROM item WHERE id = :id",
+                            new IntParam("id", idx % 1000 + 1)
+                        ),
+                        executor
+                    ).result()
+                );
+            }
+            int rows = 0;
+            for (final CompletableFuture<Result<Rows>> future : futures) {
+                for (final Object row : future.get().value()) {
+                    ++rows;
+                }
+            }
+            return rows;
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.query;
+
+import com.github.fabriciofx.cactoos.jdbc.H2Session;
+import com.github.fabriciofx.cactoos.jdbc.QueryParam;
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.query.param.IntParam;
+import com.github.fabriciofx.cactoos.jdbc.query.param.TextParam;
+import com.github.fabriciofx.cactoos.jdbc.result.ResultAsCsv;
+import com.github.fabriciofx.cactoos.jdbc.result.ResultAsValues;
+import com.github.fabriciofx.cactoos.jdbc.stmt.ChunkedBatch;
+import com.github.fabriciofx.cactoos.jdbc.stmt.Select;
+import com.github.fabriciofx.cactoos.jdbc.stmt.StreamedSelect;
+import com.github.fabriciofx.cactoos.jdbc.stmt.Update;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * CsvParams tests.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.3
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+public final class CsvParamsTest {
+    @Test
+    public void parses() throws Exception {
+        final Path file = Files.createTempFile("cactoos-jdbc", ".csv");
+        try {
+            Files.write(
+                file,
+                String.join(
+                    "\r\n",
+                    "id,name",
+                    "1,\"Doe, John\"",
+                    "",
+                    "2,\"multi",
+                    "line \"\"quoted\"\"\"",
+                    "3,",
+                    "4,\"\""
+                ).getBytes(StandardCharsets.UTF_8)
+            );
+            final List<String> texts = new ArrayList<>(8);
+            new CsvParams(
+                file,
+                ',',
+                (name, value) -> {
+                    texts.add(String.format("%s=%s", name, value));
+                    return new TextParam(name, value);
+                }
+            ).exec(row -> { });
+            MatcherAssert.assertThat(
+                "Can't parse CSV rows",
+                texts,
+                Matchers.contains(
+                    "id=1", "name=Doe, John",
+                    "id=2", "name=multi\r\nline \"quoted\"",
+                    "id=3", "name=null",
+                    "id=4", "name="
+                )
+            );
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void readsNullsOfOneColumn() throws Exception {
+        final Path file = Files.createTempFile("cactoos-jdbc", ".csv");
+        try {
+            new ResultAsCsv(
+                new StreamedSelect(
+                    CsvParamsTest.session(),
+                    new SimpleQuery(
+                        String.join(
+                            " ",
+                            "SELECT name FROM (VALUES (1, 'Ann'),",
+                            "(2, CAST(NULL AS VARCHAR(10))), (3, ''),",
+                            "(4, CAST(NULL AS VARCHAR(10))))",
+                            "AS t(id, name) ORDER BY id"
+                        )
+                    )
+                ),
+                file
+            ).value();
+            final List<String> names = new ArrayList<>(4);
+            new CsvParams(
+                file,
+                ',',
+                (name, value) -> {
+                    names.add(value);
+                    return new TextParam(name, value);
+                }
+            ).exec(row -> { });
+            MatcherAssert.assertThat(
+                "Can't read back the nulls of a single column",
+                names,
+                Matchers.contains("Ann", null, "", null)
+            );
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void pipes() throws Exception {
+        final Session source = CsvParamsTest.session();
+        new Update(
+            source,
+            new SimpleQuery(
+                String.join(
+                    " ",
+                    "INSERT INTO t46 (id, name)",
+                    "SELECT CAST(X AS INT), CONCAT('name, ', X)",
+                    "FROM SYSTEM_RANGE(1, 2000)"
+                )
+            )
+        ).result();
+        final Path file = Files.createTempFile("cactoos-jdbc", ".csv");
+        final ExecutorService exec = Executors.newSingleThreadExecutor();
+        try {
+            new ResultAsCsv(
+                new StreamedSelect(
+                    source,
+                    new SimpleQuery("SELECT id, name FROM t46 ORDER BY id")
+                ),
+                file
+            ).value();
+            final Session target = CsvParamsTest.session();
+            MatcherAssert.assertThat(
+                "Can't load CSV rows in a batch",
+                new ChunkedBatch(
+                    target,
+                    () -> "INSERT INTO t46 (id, name) VALUES (:id, :name)",
+                    new PrefetchedParams(
+                        new CsvParams(
+                            file,
+                            ',',
+                            (name, value) -> {
+                                final QueryParam param;
+                                if ("id".equals(name)) {
+                                    param = new IntParam(
+                                        name,
+                                        Integer.valueOf(value)
+                                    );
+                                } else {
+                                    param = new TextParam(name, value);
+                                }
+                                return param;
+                            }
+                        ),
+                        exec
+                    )
+                ).result().value(),
+                // @checkstyle MagicNumber (1 line)
+                Matchers.equalTo(2000L)
+            );
+            MatcherAssert.assertThat(
+                "Can't read the loaded rows",
+                new ResultAsValues<String>(
+                    new Select(
+                        target,
+                        new SimpleQuery(
+                            "SELECT name FROM t46 WHERE id = 1234"
+                        )
+                    )
+                ).value(),
+                Matchers.contains("name, 1234")
+            );
+        } finally {
+            exec.shutdown();
+            Files.delete(file);
+        }
+    }
+
+    private static Session session() {
+        return new H2Session(
+            "CREATE TABLE t46 (id INT, name VARCHAR(50), PRIMARY KEY (id))"
+        );
+    }
+}
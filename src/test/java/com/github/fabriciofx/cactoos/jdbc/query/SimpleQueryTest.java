@@ -29,6 +29,7 @@ import com.github.fabriciofx.cactoos.jdbc.query.param.DecimalParam;
 import com.github.fabriciofx.cactoos.jdbc.query.param.TextParam;
 import org.cactoos.text.JoinedText;
 import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
 import org.junit.Test;
 import org.llorllale.cactoos.matchers.TextHasString;
 
@@ -99,20 +100,36 @@ public final class SimpleQueryTest {
         );
     }
 
-    @Test(expected = IllegalArgumentException.class)
+    @Test
     public void outOfOrder() throws Exception {
-        new SimpleQuery(
-            new JoinedText(
-                " ",
-                "INSERT INTO employee",
-                "(name, birthday, address, married, salary)",
-                "VALUES (:name, :birthday, :address, :married, :salary)"
+        MatcherAssert.assertThat(
+            "Can't build a named query with values out of order",
+            new SimpleQuery(
+                new JoinedText(
+                    " ",
+                    "INSERT INTO employee",
+                    "(name, birthday, address, married, salary)",
+                    "VALUES (:name, :birthday, :address, :married, :salary)"
+                ),
+                new TextParam("name", "John Wick"),
+                new TextParam("address", "Boulevard Street, 34"),
+                new DateParam("birthday", "1980-08-16"),
+                new BoolParam("married", false),
+                new DecimalParam("salary", "13456.00")
             ),
-            new TextParam("name", "John Wick"),
-            new DateParam("address", "1980-08-16"),
-            new TextParam("birthday", "Boulevard Street, 34"),
-            new BoolParam("married", false),
-            new DecimalParam("salary", "13456.00")
-        ).asString();
+            new TextHasString("VALUES (?, ?, ?, ?, ?)")
+        );
+    }
+
+    @Test
+    public void repeated() throws Exception {
+        MatcherAssert.assertThat(
+            "Can't build a named query with a repeated name",
+            new ParsedSql(
+                "SELECT * FROM employee WHERE name = :name OR alias = :name",
+                new TextParam("name", "John Wick")
+            ).plan(),
+            Matchers.equalTo(new int[][] {{1, 2}})
+        );
     }
 }
@@ -0,0 +1,92 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.query;
+
+import com.github.fabriciofx.cactoos.jdbc.SmartQueryParams;
+import com.github.fabriciofx.cactoos.jdbc.query.param.TextParam;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.llorllale.cactoos.matchers.TextHasString;
+
+/**
+ * SqlCache tests.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.3
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+public final class SqlCacheTest {
+    @Test
+    public void parsesOnce() throws Exception {
+        final SqlCache cache = new SqlCache(10);
+        for (int idx = 0; idx < 3; ++idx) {
+            MatcherAssert.assertThat(
+                "Can't parse a cached SQL",
+                new ParsedSql(
+                    () -> "SELECT * FROM employee WHERE name = :name",
+                    new SmartQueryParams(new TextParam("name", "John")),
+                    cache
+                ),
+                new TextHasString("SELECT * FROM employee WHERE name = ?")
+            );
+        }
+        MatcherAssert.assertThat(
+            "Can't count hits and misses",
+            new long[] {cache.hits(), cache.misses()},
+            Matchers.equalTo(new long[] {2L, 1L})
+        );
+    }
+
+    @Test
+    public void bounded() throws Exception {
+        final SqlCache cache = new SqlCache(2);
+        for (int idx = 0; idx < 5; ++idx) {
+            cache.named(String.format("SELECT %d FROM employee", idx));
+        }
+        MatcherAssert.assertThat(
+            "Can't bound the cache",
+            cache.size(),
+            Matchers.equalTo(2)
+        );
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void checksNames() throws Exception {
+        final SqlCache cache = new SqlCache(10);
+        final String sql = "INSERT INTO foo2 (name) VALUES (:name)";
+        new ParsedSql(
+            () -> sql,
+            new SmartQueryParams(new TextParam("name", "Yegor")),
+            cache
+        ).asString();
+        new ParsedSql(
+            () -> sql,
+            new SmartQueryParams(new TextParam("address", "Sunset")),
+            cache
+        ).asString();
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.query;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * SqlScanner tests.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.3
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+public final class SqlScannerTest {
+    @Test
+    public void parameters() {
+        final NamedSql named = new SqlScanner(
+            "UPDATE employee SET name = :name, salary=:salary WHERE id = :id"
+        ).value();
+        MatcherAssert.assertThat(
+            "Can't rewrite named parameters",
+            named.sql(),
+            Matchers.equalTo(
+                "UPDATE employee SET name = ?, salary=? WHERE id = ?"
+            )
+        );
+        MatcherAssert.assertThat(
+            "Can't find the parameter names in order",
+            named.names(),
+            Matchers.contains("name", "salary", "id")
+        );
+    }
+
+    @Test
+    public void casts() {
+        final NamedSql named = new SqlScanner(
+            "SELECT :value::numeric, created::date FROM employee"
+        ).value();
+        MatcherAssert.assertThat(
+            "Can't skip casts",
+            named.sql(),
+            Matchers.equalTo("SELECT ?::numeric, created::date FROM employee")
+        );
+        MatcherAssert.assertThat(
+            "Can't find a parameter before a cast",
+            named.names(),
+            Matchers.contains("value")
+        );
+    }
+
+    @Test
+    public void literals() {
+        final String sql = String.join(
+            "\n",
+            "SELECT 'it''s :not', \"col:umn\", `my:sql` -- :comment",
+            "FROM employee /* :block */ WHERE time = '10:30'"
+        );
+        final NamedSql named = new SqlScanner(
+            String.join(" ", sql, "AND name = :name")
+        ).value();
+        MatcherAssert.assertThat(
+            "Can't skip literals, identifiers and comments",
+            named.sql(),
+            Matchers.equalTo(String.join(" ", sql, "AND name = ?"))
+        );
+        MatcherAssert.assertThat(
+            "Can't find the parameter after literals",
+            named.names(),
+            Matchers.contains("name")
+        );
+    }
+
+    @Test
+    public void dollarQuoted() {
+        final String body = String.join(
+            " ",
+            "CREATE FUNCTION f() RETURNS int AS $fn$",
+            "SELECT :inside; $$ :nested $$ $fn$ LANGUAGE sql; SELECT $$:x$$,",
+            "$1"
+        );
+        final NamedSql named = new SqlScanner(
+            String.join(", ", body, ":outside")
+        ).value();
+        MatcherAssert.assertThat(
+            "Can't skip dollar-quoted bodies",
+            named.sql(),
+            Matchers.equalTo(String.join(", ", body, "?"))
+        );
+        MatcherAssert.assertThat(
+            "Can't find the parameter after dollar-quoted bodies",
+            named.names(),
+            Matchers.contains("outside")
+        );
+    }
+
+    @Test
+    public void unterminated() {
+        MatcherAssert.assertThat(
+            "Can't scan an unterminated literal",
+            new SqlScanner("SELECT :id, 'open :name").value().names(),
+            Matchers.contains("id")
+        );
+    }
+}
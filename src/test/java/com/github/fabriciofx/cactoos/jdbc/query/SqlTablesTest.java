@@ -0,0 +1,121 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.query;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * SqlTables tests.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.3
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+public final class SqlTablesTest {
+    @Test
+    public void writes() {
+        MatcherAssert.assertThat(
+            "Can't find the table of an insert",
+            new SqlTables("INSERT INTO Employee (id, name) VALUES (?, ?)")
+                .value(),
+            Matchers.contains("employee")
+        );
+        MatcherAssert.assertThat(
+            "Can't find the table of an update",
+            new SqlTables("UPDATE hr.employee SET name = ? WHERE id = ?")
+                .value(),
+            Matchers.contains("employee")
+        );
+        MatcherAssert.assertThat(
+            "Can't find the table of a delete",
+            new SqlTables("DELETE FROM \"Employee\" WHERE id = ?").value(),
+            Matchers.contains("employee")
+        );
+    }
+
+    @Test
+    public void writesWithoutInto() {
+        MatcherAssert.assertThat(
+            "Can't find the tables of a truncate",
+            new SqlTables("TRUNCATE TABLE employee, \"Dept\"").value(),
+            Matchers.contains("employee", "dept")
+        );
+        MatcherAssert.assertThat(
+            "Can't find the table of an insert without into",
+            new SqlTables("INSERT IGNORE employee VALUES (?, ?)").value(),
+            Matchers.contains("employee")
+        );
+        MatcherAssert.assertThat(
+            "Can't find the tables of a multi-table update",
+            new SqlTables(
+                "UPDATE employee e, dept d SET e.dept = d.id WHERE d.id = ?"
+            ).value(),
+            Matchers.contains("employee", "dept")
+        );
+    }
+
+    @Test
+    public void findsNoTablesOfCalls() {
+        MatcherAssert.assertThat(
+            "Can't find no tables in a procedure call",
+            new SqlTables("CALL raise_salaries(?)").value(),
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    public void reads() {
+        MatcherAssert.assertThat(
+            "Can't find the tables of a query",
+            new SqlTables(
+                String.join(
+                    " ",
+                    "SELECT e.name FROM employee e, dept AS d",
+                    "LEFT JOIN (SELECT id FROM salary) s ON s.id = e.id",
+                    "WHERE e.dept = d.id"
+                )
+            ).value(),
+            Matchers.containsInAnyOrder("employee", "dept", "salary")
+        );
+    }
+
+    @Test
+    public void skipsLiteralsAndComments() {
+        MatcherAssert.assertThat(
+            "Can't skip literals and comments",
+            new SqlTables(
+                String.join(
+                    "\n",
+                    "-- FROM audit",
+                    "SELECT 'FROM log' /* JOIN trace */ FROM employee"
+                )
+            ).value(),
+            Matchers.contains("employee")
+        );
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.query;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * ValuesSql tests.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.3
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+public final class ValuesSqlTest {
+    @Test
+    public void manyRows() {
+        MatcherAssert.assertThat(
+            "Can't rewrite a simple insert",
+            new ValuesSql(
+                "insert into item (id, name) values (?, concat('(', ?));"
+            ).rows(3),
+            Matchers.equalTo(
+                String.join(
+                    ", ",
+                    "insert into item (id, name) values (?, concat('(', ?))",
+                    "(?, concat('(', ?))",
+                    "(?, concat('(', ?))"
+                )
+            )
+        );
+    }
+
+    @Test
+    public void notSimple() {
+        MatcherAssert.assertThat(
+            "Can't detect an insert that is not simple",
+            new ValuesSql(
+                "INSERT INTO item (id) VALUES (?) ON DUPLICATE KEY UPDATE id=1"
+            ).simple()
+                || new ValuesSql("INSERT INTO item SELECT ?").simple()
+                || new ValuesSql("UPDATE item SET id = ?").simple()
+                || new ValuesSql("INSERT INTO item (id) VALUES (?), (?)")
+                    .simple(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    public void skipsComments() {
+        MatcherAssert.assertThat(
+            "Can't skip comments and dollar quotes like SqlScanner",
+            new ValuesSql(
+                String.join(
+                    "\n",
+                    "INSERT INTO item (id, body) -- keep it (?)",
+                    "/* VALUES (?) */ VALUES (?, $$)$$)"
+                )
+            ).rows(2),
+            Matchers.endsWith("VALUES (?, $$)$$), (?, $$)$$)")
+        );
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.result;
+
+import com.github.fabriciofx.cactoos.jdbc.H2Session;
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.query.SimpleQuery;
+import com.github.fabriciofx.cactoos.jdbc.stmt.StreamedSelect;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.cactoos.text.JoinedText;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * ResultAsCsv tests.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.3
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+public final class ResultAsCsvTest {
+    @Test
+    public void writesCsv() throws Exception {
+        final Path file = Files.createTempFile("cactoos-jdbc", ".csv");
+        try {
+            MatcherAssert.assertThat(
+                "Can't count the rows written as CSV",
+                new ResultAsCsv(
+                    new StreamedSelect(
+                        ResultAsCsvTest.session(),
+                        ResultAsCsvTest.query()
+                    ),
+                    file
+                ).value(),
+                Matchers.equalTo(2L)
+            );
+            MatcherAssert.assertThat(
+                "Can't write rows as CSV",
+                new String(Files.readAllBytes(file), StandardCharsets.UTF_8),
+                Matchers.equalTo(
+                    String.join(
+                        "\r\n",
+                        "id,name,note",
+                        "1,\"Doe, John\",\"say \"\"hi\"\"\"",
+                        "2,Ann,",
+                        ""
+                    )
+                )
+            );
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void writesTsv() throws Exception {
+        final Path file = Files.createTempFile("cactoos-jdbc", ".tsv");
+        try {
+            new ResultAsCsv(
+                new StreamedSelect(
+                    ResultAsCsvTest.session(),
+                    ResultAsCsvTest.query()
+                ),
+                file,
+                '\t'
+            ).value();
+            MatcherAssert.assertThat(
+                "Can't write rows as TSV",
+                new String(Files.readAllBytes(file), StandardCharsets.UTF_8),
+                Matchers.equalTo(
+                    String.join(
+                        "\r\n",
+                        "id\tname\tnote",
+                        "1\tDoe, John\t\"say \"\"hi\"\"\"",
+                        "2\tAnn\t",
+                        ""
+                    )
+                )
+            );
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void writesHeaderOfNoRows() throws Exception {
+        final Path file = Files.createTempFile("cactoos-jdbc", ".csv");
+        try {
+            new ResultAsCsv(
+                new StreamedSelect(
+                    ResultAsCsvTest.session(),
+                    new SimpleQuery(
+                        new JoinedText(
+                            " ",
+                            "SELECT * FROM (VALUES (1, 'Ann', 'hi'))",
+                            "AS t(id, name, note) WHERE id > 1"
+                        )
+                    )
+                ),
+                file
+            ).value();
+            MatcherAssert.assertThat(
+                "Can't write the header when there are no rows",
+                new String(Files.readAllBytes(file), StandardCharsets.UTF_8),
+                Matchers.equalTo("id,name,note\r\n")
+            );
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void quotesEmptyTexts() throws Exception {
+        final Path file = Files.createTempFile("cactoos-jdbc", ".csv");
+        try {
+            new ResultAsCsv(
+                new StreamedSelect(
+                    ResultAsCsvTest.session(),
+                    new SimpleQuery(
+                        "SELECT '' AS empty, CAST(NULL AS VARCHAR(1)) AS none"
+                    )
+                ),
+                file
+            ).value();
+            MatcherAssert.assertThat(
+                "Can't tell empty texts from nulls",
+                new String(Files.readAllBytes(file), StandardCharsets.UTF_8),
+                Matchers.equalTo("empty,none\r\n\"\",\r\n")
+            );
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static SimpleQuery query() {
+        return new SimpleQuery(
+            new JoinedText(
+                " ",
+                "SELECT * FROM (VALUES",
+                "(1, 'Doe, John', 'say \"hi\"'),",
+                "(2, 'Ann', CAST(NULL AS VARCHAR(10))))",
+                "AS t(id, name, note) ORDER BY id"
+            )
+        );
+    }
+
+    private static Session session() {
+        return new H2Session();
+    }
+}
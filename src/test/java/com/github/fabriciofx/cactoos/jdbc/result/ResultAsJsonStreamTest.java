@@ -0,0 +1,142 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.result;
+
+import com.github.fabriciofx.cactoos.jdbc.H2Session;
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.query.SimpleQuery;
+import com.github.fabriciofx.cactoos.jdbc.stmt.Select;
+import com.github.fabriciofx.cactoos.jdbc.stmt.StreamedSelect;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import org.cactoos.text.JoinedText;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * ResultAsJsonStream tests.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.3
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+public final class ResultAsJsonStreamTest {
+    @Test
+    public void objects() throws Exception {
+        MatcherAssert.assertThat(
+            "Can't write rows as JSON objects",
+            new ResultAsJson(
+                new Select(
+                    ResultAsJsonStreamTest.session(),
+                    ResultAsJsonStreamTest.query()
+                )
+            ).value(),
+            Matchers.equalTo(
+                String.join(
+                    "",
+                    "[{\"id\":1,\"price\":2.50,\"ok\":true,",
+                    "\"day\":\"2020-01-02\",\"nothing\":null,",
+                    "\"text\":\"say \\\"hi\\\"\\n\"}]"
+                )
+            )
+        );
+    }
+
+    @Test
+    public void arrays() throws Exception {
+        MatcherAssert.assertThat(
+            "Can't write rows as JSON arrays",
+            new ResultAsJson(
+                new Select(
+                    ResultAsJsonStreamTest.session(),
+                    ResultAsJsonStreamTest.query()
+                ),
+                true
+            ).value(),
+            Matchers.equalTo(
+                String.join(
+                    "",
+                    "[[1,2.50,true,\"2020-01-02\",null,",
+                    "\"say \\\"hi\\\"\\n\"]]"
+                )
+            )
+        );
+    }
+
+    @Test
+    public void encodesBytes() throws Exception {
+        MatcherAssert.assertThat(
+            "Can't write bytes as Base64",
+            new ResultAsJson(
+                new Select(
+                    ResultAsJsonStreamTest.session(),
+                    new SimpleQuery("SELECT X'CAFE' AS data")
+                )
+            ).value(),
+            Matchers.equalTo("[{\"data\":\"yv4=\"}]")
+        );
+    }
+
+    @Test
+    public void streams() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        MatcherAssert.assertThat(
+            "Can't count the rows written",
+            new ResultAsJsonStream(
+                new StreamedSelect(
+                    ResultAsJsonStreamTest.session(),
+                    new SimpleQuery(
+                        "SELECT CAST(X AS INT) AS n FROM SYSTEM_RANGE(1, 1000)"
+                    )
+                ),
+                out
+            ).value(),
+            Matchers.equalTo(1000L)
+        );
+        MatcherAssert.assertThat(
+            "Can't stream rows as JSON",
+            new String(out.toByteArray(), StandardCharsets.UTF_8),
+            Matchers.endsWith(",{\"n\":999},{\"n\":1000}]")
+        );
+    }
+
+    private static SimpleQuery query() {
+        return new SimpleQuery(
+            new JoinedText(
+                " ",
+                "SELECT 1 AS id, CAST(2.5 AS DECIMAL(5, 2)) AS price,",
+                "TRUE AS ok, DATE '2020-01-02' AS day,",
+                "CAST(NULL AS VARCHAR(10)) AS nothing,",
+                "CONCAT('say \"hi\"', CHAR(10)) AS text"
+            )
+        );
+    }
+
+    private static Session session() {
+        return new H2Session();
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.result;
+
+import com.github.fabriciofx.cactoos.jdbc.H2Session;
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.query.SimpleQuery;
+import com.github.fabriciofx.cactoos.jdbc.stmt.Select;
+import com.github.fabriciofx.cactoos.jdbc.stmt.StreamedSelect;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * ResultAsXmlStream tests.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.3
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+public final class ResultAsXmlStreamTest {
+    @Test
+    public void escapes() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new ResultAsXmlStream(
+            new Select(
+                ResultAsXmlStreamTest.session(),
+                new SimpleQuery(
+                    "SELECT 1 AS id, 'Tom & <Jérôme>' AS name"
+                )
+            ),
+            "rows",
+            "row",
+            out
+        ).value();
+        MatcherAssert.assertThat(
+            "Can't write escaped XML",
+            new String(out.toByteArray(), StandardCharsets.UTF_8),
+            Matchers.equalTo(
+                String.join(
+                    "",
+                    "<rows><row><id>1</id>",
+                    "<name>Tom &amp; &lt;Jérôme&gt;</name></row></rows>"
+                )
+            )
+        );
+    }
+
+    @Test
+    public void streams() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        MatcherAssert.assertThat(
+            "Can't count the rows written",
+            new ResultAsXmlStream(
+                new StreamedSelect(
+                    ResultAsXmlStreamTest.session(),
+                    new SimpleQuery(
+                        "SELECT CAST(X AS INT) AS n FROM SYSTEM_RANGE(1, 1000)"
+                    )
+                ),
+                "numbers",
+                "number",
+                out
+            ).value(),
+            Matchers.equalTo(1000L)
+        );
+        MatcherAssert.assertThat(
+            "Can't stream rows as XML",
+            new String(out.toByteArray(), StandardCharsets.UTF_8),
+            Matchers.endsWith("<number><n>1000</n></number></numbers>")
+        );
+    }
+
+    @Test
+    public void encodesBytes() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new ResultAsXmlStream(
+            new Select(
+                ResultAsXmlStreamTest.session(),
+                new SimpleQuery("SELECT X'CAFE' AS data")
+            ),
+            "rows",
+            "row",
+            out
+        ).value();
+        MatcherAssert.assertThat(
+            "Can't write bytes as Base64",
+            new String(out.toByteArray(), StandardCharsets.UTF_8),
+            Matchers.equalTo("<rows><row><data>yv4=</data></row></rows>")
+        );
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsInvalidNames() throws Exception {
+        new ResultAsXmlStream(
+            new Select(
+                ResultAsXmlStreamTest.session(),
+                new SimpleQuery("SELECT 1 + 1")
+            ),
+            "rows",
+            "row",
+            new ByteArrayOutputStream()
+        ).value();
+    }
+
+    private static Session session() {
+        return new H2Session();
+    }
+}
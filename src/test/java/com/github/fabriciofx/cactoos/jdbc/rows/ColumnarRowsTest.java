@@ -0,0 +1,182 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.rows;
+
+import com.github.fabriciofx.cactoos.jdbc.DataType;
+import com.github.fabriciofx.cactoos.jdbc.H2Session;
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.SmartDataTypes;
+import com.github.fabriciofx.cactoos.jdbc.query.SimpleQuery;
+import com.github.fabriciofx.cactoos.jdbc.stmt.Select;
+import java.sql.ResultSet;
+import java.sql.Types;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * ColumnarRows tests.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.3
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class ColumnarRowsTest {
+    @Test
+    public void typed() throws Exception {
+        try (final ColumnarRows rows = ColumnarRowsTest.rows()) {
+            MatcherAssert.assertThat(
+                "Can't read typed cells",
+                new Object[] {
+                    rows.count(),
+                    rows.intAt(1, 0),
+                    rows.longAt(1, 1),
+                    rows.doubleAt(1, 2),
+                    rows.boolAt(1, 3),
+                    rows.textAt(1, 4),
+                },
+                Matchers.arrayContaining(
+                    3, 2, 20_000_000_000L, 2.5, true, "blue"
+                )
+            );
+        }
+    }
+
+    @Test
+    public void nulls() throws Exception {
+        try (final ColumnarRows rows = ColumnarRowsTest.rows()) {
+            MatcherAssert.assertThat(
+                "Can't read null cells",
+                new Object[] {
+                    rows.isNull(2, 1),
+                    rows.isNull(2, 4),
+                    rows.isNull(1, 1),
+                    rows.data(2, 2),
+                    rows.data(2, 4),
+                },
+                Matchers.arrayContaining(true, true, false, 0.0, null)
+            );
+        }
+    }
+
+    @Test
+    public void nullsAsRowsAsResultSet() throws Exception {
+        final Session session = new H2Session();
+        final SimpleQuery query = new SimpleQuery(
+            "SELECT CAST(NULL AS INT) AS id"
+        );
+        try (
+            final ColumnarRows columnar = (ColumnarRows) new Select(
+                session,
+                query,
+                ColumnarRows::new
+            ).result().value();
+            final RowsAsResultSet rows = (RowsAsResultSet) new Select(
+                session,
+                query
+            ).result().value()
+        ) {
+            MatcherAssert.assertThat(
+                "Can't read a null int as RowsAsResultSet does",
+                columnar.data(0, 0),
+                Matchers.allOf(
+                    Matchers.equalTo(rows.data(0, 0)),
+                    Matchers.equalTo((Object) 0)
+                )
+            );
+        }
+    }
+
+    @Test
+    public void iterates() throws Exception {
+        try (final ColumnarRows rows = ColumnarRowsTest.rows()) {
+            MatcherAssert.assertThat(
+                "Can't iterate columnar rows",
+                rows.iterator().next(),
+                Matchers.allOf(
+                    Matchers.hasEntry("id", (Object) 1),
+                    Matchers.hasEntry("color", (Object) "blue")
+                )
+            );
+        }
+    }
+
+    @Test
+    public void customTypes() throws Exception {
+        try (
+            final ColumnarRows rows = (ColumnarRows) new Select(
+                new H2Session(),
+                new SimpleQuery("SELECT CAST(1 AS INT) AS id"),
+                rset -> new ColumnarRows(
+                    rset,
+                    new SmartDataTypes(
+                        new DataType<String>() {
+                            @Override
+                            public boolean match(final int type) {
+                                return type == Types.INTEGER;
+                            }
+
+                            @Override
+                            public String data(
+                                final ResultSet rset,
+                                final int index
+                            ) throws Exception {
+                                return rset.getString(index).concat("!");
+                            }
+                        }
+                    )
+                )
+            ).result().value()
+        ) {
+            MatcherAssert.assertThat(
+                "Can't store a column by its custom type",
+                rows.data(0, "id"),
+                Matchers.equalTo("1!")
+            );
+        }
+    }
+
+    private static ColumnarRows rows() throws Exception {
+        return (ColumnarRows) new Select(
+            new H2Session(
+                String.join(
+                    " ",
+                    "CREATE TABLE t33 (id INT, big BIGINT, ratio DOUBLE,",
+                    "ok BOOLEAN, color VARCHAR(10), PRIMARY KEY (id))"
+                ),
+                String.join(
+                    " ",
+                    "INSERT INTO t33 VALUES",
+                    "(1, 10, 1.5, FALSE, 'blue'),",
+                    "(2, 20000000000, 2.5, TRUE, 'blue'),",
+                    "(3, NULL, NULL, NULL, NULL)"
+                )
+            ),
+            new SimpleQuery("SELECT * FROM t33 ORDER BY id"),
+            ColumnarRows::new
+        ).result().value();
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.rows;
+
+import com.github.fabriciofx.cactoos.jdbc.H2Session;
+import com.github.fabriciofx.cactoos.jdbc.Rows;
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.query.SimpleQuery;
+import com.github.fabriciofx.cactoos.jdbc.stmt.StreamedSelect;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * MergedRows tests.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.3
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+public final class MergedRowsTest {
+    @Test
+    public void anyCase() throws Exception {
+        final Session session = new H2Session();
+        try (
+            Rows rows = new MergedRows(
+                "Id",
+                new StreamedSelect(
+                    session,
+                    new SimpleQuery(
+                        String.join(
+                            " ",
+                            "SELECT CAST(X * 2 - 1 AS INT) AS id",
+                            "FROM SYSTEM_RANGE(1, 3)"
+                        )
+                    )
+                ).result().value(),
+                new StreamedSelect(
+                    session,
+                    new SimpleQuery(
+                        String.join(
+                            " ",
+                            "SELECT CAST(X * 2 AS INT) AS id",
+                            "FROM SYSTEM_RANGE(1, 3)"
+                        )
+                    )
+                ).result().value()
+            )
+        ) {
+            final List<Object> ids = new ArrayList<>(0);
+            for (final Map<String, Object> row : rows) {
+                ids.add(row.get("ID"));
+            }
+            MatcherAssert.assertThat(
+                "Can't merge rows on a column in another case",
+                ids,
+                // @checkstyle MagicNumber (1 line)
+                Matchers.contains(1, 2, 3, 4, 5, 6)
+            );
+        }
+    }
+
+    @Test
+    public void nullsLast() throws Exception {
+        final Session session = new H2Session();
+        try (
+            Rows rows = new MergedRows(
+                new ColumnOrder("id", true, false),
+                new StreamedSelect(
+                    session,
+                    new SimpleQuery(
+                        String.join(
+                            " ",
+                            "SELECT NULLIF(CAST(X AS VARCHAR), '3') AS id",
+                            "FROM SYSTEM_RANGE(1, 3) ORDER BY id NULLS LAST"
+                        )
+                    )
+                ).result().value(),
+                new StreamedSelect(
+                    session,
+                    new SimpleQuery(
+                        String.join(
+                            " ",
+                            "SELECT NULLIF(CAST(X + 2 AS VARCHAR), '5') AS id",
+                            "FROM SYSTEM_RANGE(1, 3) ORDER BY id NULLS LAST"
+                        )
+                    )
+                ).result().value()
+            )
+        ) {
+            final List<Object> ids = new ArrayList<>(0);
+            for (final Map<String, Object> row : rows) {
+                ids.add(row.get("ID"));
+            }
+            MatcherAssert.assertThat(
+                "Can't merge rows with nulls last",
+                ids,
+                Matchers.contains("1", "2", "3", "4", null, null)
+            );
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownColumn() throws Exception {
+        final Session session = new H2Session();
+        try (
+            Rows rows = new MergedRows(
+                "name",
+                new StreamedSelect(
+                    session,
+                    new SimpleQuery("SELECT 1 AS id")
+                ).result().value(),
+                new StreamedSelect(
+                    session,
+                    new SimpleQuery("SELECT 2 AS id")
+                ).result().value()
+            )
+        ) {
+            rows.iterator();
+        }
+    }
+}
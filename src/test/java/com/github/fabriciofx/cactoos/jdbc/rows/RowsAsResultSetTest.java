@@ -0,0 +1,121 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.rows;
+
+import com.github.fabriciofx.cactoos.jdbc.H2Session;
+import com.github.fabriciofx.cactoos.jdbc.query.SimpleQuery;
+import com.github.fabriciofx.cactoos.jdbc.stmt.Select;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * RowsAsResultSet tests.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.3
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+public final class RowsAsResultSetTest {
+    @Test
+    public void byPosition() throws Exception {
+        try (final RowsAsResultSet rows = RowsAsResultSetTest.rows()) {
+            MatcherAssert.assertThat(
+                "Can't read a cell by position",
+                rows.data(1, 1),
+                Matchers.equalTo("Bob")
+            );
+        }
+    }
+
+    @Test
+    public void byName() throws Exception {
+        try (final RowsAsResultSet rows = RowsAsResultSetTest.rows()) {
+            MatcherAssert.assertThat(
+                "Can't read a cell by column name",
+                rows.data(0, "NAME"),
+                Matchers.equalTo("Ada")
+            );
+        }
+    }
+
+    @Test
+    public void asMaps() throws Exception {
+        try (final RowsAsResultSet rows = RowsAsResultSetTest.rows()) {
+            MatcherAssert.assertThat(
+                "Can't read a row as a map",
+                rows.iterator().next(),
+                Matchers.allOf(
+                    Matchers.hasEntry("id", (Object) 1),
+                    Matchers.hasEntry("name", (Object) "Ada")
+                )
+            );
+        }
+    }
+
+    @Test
+    public void anyCase() throws Exception {
+        try (final RowsAsResultSet rows = RowsAsResultSetTest.rows()) {
+            MatcherAssert.assertThat(
+                "Can't read a row as a map in any case",
+                rows.iterator().next().get("NAME"),
+                Matchers.equalTo("Ada")
+            );
+        }
+    }
+
+    @Test
+    public void repeatedNames() throws Exception {
+        try (
+            final RowsAsResultSet rows = (RowsAsResultSet) new Select(
+                new H2Session(),
+                new SimpleQuery("SELECT 1 AS id, 2 AS id")
+            ).result().value()
+        ) {
+            final Map<String, Object> row = rows.iterator().next();
+            MatcherAssert.assertThat(
+                "Can't keep a single key for repeated names",
+                row.keySet(),
+                Matchers.contains("id")
+            );
+            MatcherAssert.assertThat(
+                "Can't keep the last value for repeated names",
+                row.get("id"),
+                Matchers.equalTo(rows.data(0, 1))
+            );
+        }
+    }
+
+    private static RowsAsResultSet rows() throws Exception {
+        return (RowsAsResultSet) new Select(
+            new H2Session(
+                "CREATE TABLE t34 (id INT, name VARCHAR(10), PRIMARY KEY (id))",
+                "INSERT INTO t34 VALUES (1, 'Ada'), (2, 'Bob')"
+            ),
+            new SimpleQuery("SELECT id, name FROM t34 ORDER BY id")
+        ).result().value();
+    }
+}
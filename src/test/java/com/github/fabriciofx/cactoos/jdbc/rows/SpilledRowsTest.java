@@ -0,0 +1,120 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.rows;
+
+import com.github.fabriciofx.cactoos.jdbc.H2Session;
+import com.github.fabriciofx.cactoos.jdbc.Rows;
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.query.SimpleQuery;
+import com.github.fabriciofx.cactoos.jdbc.stmt.Select;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.cactoos.text.JoinedText;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * SpilledRows tests.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.3
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+public final class SpilledRowsTest {
+    @Test
+    public void spills() throws Exception {
+        final Session session = new H2Session();
+        try (
+            final SpilledRows rows = (SpilledRows) new Select(
+                session,
+                SpilledRowsTest.query(),
+                rset -> new SpilledRows(rset, 1024L)
+            ).result().value()
+        ) {
+            final List<Map<String, Object>> expected = SpilledRowsTest.list(
+                new Select(session, SpilledRowsTest.query()).result().value()
+            );
+            MatcherAssert.assertThat(
+                "Can't iterate spilled rows",
+                SpilledRowsTest.list(rows),
+                Matchers.equalTo(expected)
+            );
+            MatcherAssert.assertThat(
+                "Can't iterate spilled rows again",
+                SpilledRowsTest.list(rows),
+                Matchers.equalTo(expected)
+            );
+        }
+    }
+
+    @Test
+    public void randomAccess() throws Exception {
+        try (
+            final SpilledRows rows = (SpilledRows) new Select(
+                new H2Session(),
+                SpilledRowsTest.query(),
+                rset -> new SpilledRows(rset, 1024L)
+            ).result().value()
+        ) {
+            MatcherAssert.assertThat(
+                "Can't access spilled rows at random",
+                new Object[] {
+                    rows.count(),
+                    rows.data(3, "name"),
+                    rows.data(399, "name"),
+                    rows.data(399, "nothing"),
+                    rows.data(400, 0),
+                },
+                Matchers.arrayContaining(500, "name-4", "name-400", null, 401)
+            );
+        }
+    }
+
+    private static List<Map<String, Object>> list(final Rows rows) {
+        final List<Map<String, Object>> list = new ArrayList<>(500);
+        for (final Map<String, Object> row : rows) {
+            list.add(row);
+        }
+        return list;
+    }
+
+    private static SimpleQuery query() {
+        return new SimpleQuery(
+            new JoinedText(
+                " ",
+                "SELECT CAST(X AS INT) AS id, CONCAT('name-', X) AS name,",
+                "CAST(X AS DECIMAL(10, 2)) / 4 AS price,",
+                "CAST(X AS DOUBLE) / 3 AS ratio,",
+                "DATEADD('DAY', X, DATE '2020-01-01') AS day,",
+                "CAST(NULL AS VARCHAR(10)) AS nothing,",
+                "MOD(X, 2) = 0 AS even",
+                "FROM SYSTEM_RANGE(1, 500)"
+            )
+        );
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.session;
+
+import com.github.fabriciofx.cactoos.jdbc.RandomDatabaseName;
+import com.github.fabriciofx.cactoos.jdbc.Result;
+import com.github.fabriciofx.cactoos.jdbc.Rows;
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.concurrent.VirtualThreads;
+import com.github.fabriciofx.cactoos.jdbc.query.SimpleQuery;
+import com.github.fabriciofx.cactoos.jdbc.source.H2Source;
+import com.github.fabriciofx.cactoos.jdbc.stmt.AsyncStatement;
+import com.github.fabriciofx.cactoos.jdbc.stmt.Select;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * BoundedSession tests.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.3
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+public final class BoundedSessionTest {
+    @Test
+    public void bounds() throws Exception {
+        final Session h2 = new NoAuthSession(
+            new H2Source(new RandomDatabaseName().asString())
+        );
+        final AtomicInteger open = new AtomicInteger();
+        final AtomicInteger max = new AtomicInteger();
+        final Session session = new BoundedSession(
+            () -> {
+                max.accumulateAndGet(open.incrementAndGet(), Math::max);
+                return new ReleasingConnection(
+                    h2.connection(),
+                    open::decrementAndGet
+                );
+            },
+            4
+        );
+        final ExecutorService executor = new VirtualThreads(16).value();
+        try {
+            final List<CompletableFuture<Result<Rows>>> futures =
+                new ArrayList<>(200);
+            for (int idx = 0; idx < 200; ++idx) {
+                futures.add(
+                    new AsyncStatement<>(
+                        qry -> new Select(session, qry),
+                        new SimpleQuery("SELECT 1"),
+                        executor
+                    ).result()
+                );
+            }
+            CompletableFuture.allOf(
+                futures.toArray(new CompletableFuture<?>[0])
+            ).join();
+        } finally {
+            executor.shutdown();
+        }
+        MatcherAssert.assertThat(
+            "Can't bound the open connections",
+            max.get(),
+            Matchers.allOf(Matchers.greaterThan(0), Matchers.lessThan(5))
+        );
+    }
+}
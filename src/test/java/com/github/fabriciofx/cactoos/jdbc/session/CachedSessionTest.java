@@ -0,0 +1,189 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.session;
+
+import com.github.fabriciofx.cactoos.jdbc.H2Session;
+import com.github.fabriciofx.cactoos.jdbc.cache.ResultCache;
+import com.github.fabriciofx.cactoos.jdbc.query.MaxRowsQuery;
+import com.github.fabriciofx.cactoos.jdbc.query.SimpleQuery;
+import com.github.fabriciofx.cactoos.jdbc.query.param.IntParam;
+import com.github.fabriciofx.cactoos.jdbc.result.ResultAsValues;
+import com.github.fabriciofx.cactoos.jdbc.stmt.Insert;
+import com.github.fabriciofx.cactoos.jdbc.stmt.Select;
+import com.github.fabriciofx.cactoos.jdbc.stmt.Update;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * CachedSession tests.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.3
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+public final class CachedSessionTest {
+    @Test
+    public void reusesStatements() throws Exception {
+        final CachedSession cached = new CachedSession(
+            new H2Session("CREATE TABLE item (id INT)")
+        );
+        try (final PooledSession pool = new PooledSession(cached, 1)) {
+            for (int idx = 1; idx <= 3; ++idx) {
+                new Insert(
+                    pool,
+                    new SimpleQuery(
+                        "INSERT INTO item (id) VALUES (:id)",
+                        new IntParam("id", idx)
+                    )
+                ).result();
+            }
+            MatcherAssert.assertThat(
+                "Can't insert with a cached statement",
+                new ResultAsValues<Integer>(
+                    new Select(
+                        pool,
+                        new SimpleQuery("SELECT id FROM item ORDER BY id")
+                    )
+                ).value(),
+                Matchers.contains(1, 2, 3)
+            );
+        }
+        MatcherAssert.assertThat(
+            "Can't count cached statements",
+            new long[] {cached.hits(), cached.misses()},
+            Matchers.equalTo(new long[] {2L, 2L})
+        );
+    }
+
+    @Test
+    public void evicts() throws Exception {
+        try (
+            final Connection conn = new CachedSession(
+                new H2Session(),
+                1
+            ).connection()
+        ) {
+            final PreparedStatement first = conn.prepareStatement("SELECT 1");
+            first.close();
+            conn.prepareStatement("SELECT 2").close();
+            final PreparedStatement again = conn.prepareStatement("SELECT 1");
+            again.close();
+            MatcherAssert.assertThat(
+                "Can't evict a cached statement",
+                first.unwrap(PreparedStatement.class),
+                Matchers.not(
+                    Matchers.sameInstance(again.unwrap(PreparedStatement.class))
+                )
+            );
+        }
+    }
+
+    @Test
+    public void sharesAcrossBorrows() throws Exception {
+        final CachedSession cached;
+        try (
+            final PooledSession pool = new PooledSession(new H2Session(), 1)
+        ) {
+            cached = new CachedSession(pool);
+            for (int idx = 0; idx < 3; ++idx) {
+                try (final Connection conn = cached.connection()) {
+                    conn.prepareStatement("SELECT 1").close();
+                }
+            }
+        }
+        MatcherAssert.assertThat(
+            "Can't share cached statements across borrows",
+            new long[] {cached.hits(), cached.misses()},
+            Matchers.equalTo(new long[] {2L, 1L})
+        );
+    }
+
+    @Test
+    public void sharesAcrossDecoratedBorrows() throws Exception {
+        final CachedSession cached;
+        try (
+            final PooledSession pool = new PooledSession(new H2Session(), 1)
+        ) {
+            cached = new CachedSession(
+                new InvalidatingSession(
+                    new BoundedSession(pool, 1),
+                    new ResultCache()
+                )
+            );
+            for (int idx = 0; idx < 3; ++idx) {
+                try (final Connection conn = cached.connection()) {
+                    conn.prepareStatement("SELECT 1").close();
+                }
+            }
+        }
+        MatcherAssert.assertThat(
+            "Can't share cached statements across decorated borrows",
+            new long[] {cached.hits(), cached.misses()},
+            Matchers.equalTo(new long[] {2L, 1L})
+        );
+    }
+
+    @Test
+    public void restoresSettings() throws Exception {
+        final CachedSession cached = new CachedSession(
+            new H2Session("CREATE TABLE item (id INT)")
+        );
+        try (final PooledSession pool = new PooledSession(cached, 1)) {
+            new Update(
+                pool,
+                new SimpleQuery("INSERT INTO item VALUES (1), (2), (3)")
+            ).result();
+            MatcherAssert.assertThat(
+                "Can't limit the rows of a cached statement",
+                new ResultAsValues<Integer>(
+                    new Select(
+                        pool,
+                        new MaxRowsQuery(
+                            new SimpleQuery("SELECT id FROM item"),
+                            1
+                        )
+                    )
+                ).value(),
+                Matchers.hasSize(1)
+            );
+            MatcherAssert.assertThat(
+                "Can't restore the max rows of a cached statement",
+                new ResultAsValues<Integer>(
+                    new Select(pool, new SimpleQuery("SELECT id FROM item"))
+                ).value(),
+                Matchers.hasSize(3)
+            );
+        }
+        MatcherAssert.assertThat(
+            "Can't reuse the statement with restored settings",
+            cached.hits(),
+            Matchers.greaterThan(0L)
+        );
+    }
+}
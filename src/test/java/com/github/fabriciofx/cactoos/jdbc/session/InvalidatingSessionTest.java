@@ -0,0 +1,219 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.session;
+
+import com.github.fabriciofx.cactoos.jdbc.H2Session;
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.cache.ResultCache;
+import com.github.fabriciofx.cactoos.jdbc.query.SimpleQuery;
+import com.github.fabriciofx.cactoos.jdbc.query.param.TextParam;
+import com.github.fabriciofx.cactoos.jdbc.result.ResultAsValues;
+import com.github.fabriciofx.cactoos.jdbc.stmt.CachedSelect;
+import com.github.fabriciofx.cactoos.jdbc.stmt.Copy;
+import com.github.fabriciofx.cactoos.jdbc.stmt.Insert;
+import com.github.fabriciofx.cactoos.jdbc.stmt.Transaction;
+import com.github.fabriciofx.cactoos.jdbc.stmt.Update;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * InvalidatingSession tests.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.3
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+public final class InvalidatingSessionTest {
+    @Test
+    public void invalidatesOnWrite() throws Exception {
+        final ResultCache cache = new ResultCache();
+        final Session session = InvalidatingSessionTest.session(cache);
+        InvalidatingSessionTest.names(cache, session);
+        InvalidatingSessionTest.insert(session, "Bob");
+        MatcherAssert.assertThat(
+            "Can't invalidate cached rows after an insert",
+            InvalidatingSessionTest.names(cache, session),
+            Matchers.contains("Ada", "Bob")
+        );
+        new Update(
+            session,
+            new SimpleQuery(
+                "UPDATE t44 SET name = :name WHERE name = 'Bob'",
+                new TextParam("name", "Eve")
+            )
+        ).result();
+        MatcherAssert.assertThat(
+            "Can't invalidate cached rows after an update",
+            InvalidatingSessionTest.names(cache, session),
+            Matchers.contains("Ada", "Eve")
+        );
+    }
+
+    @Test
+    public void keepsOtherTables() throws Exception {
+        final ResultCache cache = new ResultCache();
+        final Session session = InvalidatingSessionTest.session(cache);
+        InvalidatingSessionTest.names(cache, session);
+        new Update(
+            session,
+            new SimpleQuery("CREATE TABLE t45 (id INT)")
+        ).result();
+        new Insert(
+            session,
+            new SimpleQuery("INSERT INTO t45 (id) VALUES (1)")
+        ).result();
+        MatcherAssert.assertThat(
+            "Can't keep cached rows of tables not written",
+            cache.size(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    public void invalidatesOnCommit() throws Exception {
+        final ResultCache cache = new ResultCache();
+        final Session session = InvalidatingSessionTest.session(cache);
+        InvalidatingSessionTest.names(cache, session);
+        final TransactedSession transacted = new TransactedSession(session);
+        new Transaction<>(
+            transacted,
+            () -> {
+                InvalidatingSessionTest.insert(transacted, "Bob");
+                MatcherAssert.assertThat(
+                    "Can't keep cached rows until the commit",
+                    cache.size(),
+                    Matchers.equalTo(1)
+                );
+                return true;
+            }
+        ).result();
+        MatcherAssert.assertThat(
+            "Can't invalidate cached rows after a commit",
+            InvalidatingSessionTest.names(cache, session),
+            Matchers.contains("Ada", "Bob")
+        );
+    }
+
+    @Test
+    public void keepsOnRollback() throws Exception {
+        final ResultCache cache = new ResultCache();
+        final Session session = InvalidatingSessionTest.session(cache);
+        InvalidatingSessionTest.names(cache, session);
+        final TransactedSession transacted = new TransactedSession(session);
+        try {
+            new Transaction<>(
+                transacted,
+                () -> {
+                    InvalidatingSessionTest.insert(transacted, "Bob");
+                    throw new IllegalStateException("Rolled back");
+                }
+            ).result();
+        } catch (final IllegalStateException ex) {
+            MatcherAssert.assertThat(
+                "Can't roll back the transaction",
+                ex.getMessage(),
+                Matchers.equalTo("Rolled back")
+            );
+        }
+        MatcherAssert.assertThat(
+            "Can't keep cached rows after a rollback",
+            cache.size(),
+            Matchers.equalTo(1)
+        );
+        MatcherAssert.assertThat(
+            "Can't read the cached rows after a rollback",
+            InvalidatingSessionTest.names(cache, session),
+            Matchers.contains("Ada")
+        );
+    }
+
+    @Test
+    public void clearsOnUnknownTables() throws Exception {
+        final ResultCache cache = new ResultCache();
+        final Session session = InvalidatingSessionTest.session(cache);
+        InvalidatingSessionTest.names(cache, session);
+        new Update(session, new SimpleQuery("SET @t44 = 1")).result();
+        MatcherAssert.assertThat(
+            "Can't clear the cache when the tables written are unknown",
+            cache.size(),
+            Matchers.equalTo(0)
+        );
+    }
+
+    @Test
+    public void copiesNothing() throws Exception {
+        final ResultCache cache = new ResultCache();
+        final Session session = InvalidatingSessionTest.session(cache);
+        InvalidatingSessionTest.names(cache, session);
+        MatcherAssert.assertThat(
+            "Can't copy no rows",
+            new Copy(session, "t44", row -> { }).result().value(),
+            Matchers.equalTo(0L)
+        );
+        MatcherAssert.assertThat(
+            "Can't keep cached rows when nothing is copied",
+            cache.size(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    private static List<String> names(
+        final ResultCache cache,
+        final Session session
+    ) throws Exception {
+        return new ResultAsValues<String>(
+            new CachedSelect(
+                cache,
+                session,
+                "SELECT name FROM t44 ORDER BY name"
+            )
+        ).value();
+    }
+
+    private static void insert(final Session session, final String name)
+        throws Exception {
+        new Insert(
+            session,
+            new SimpleQuery(
+                "INSERT INTO t44 (name) VALUES (:name)",
+                new TextParam("name", name)
+            )
+        ).result();
+    }
+
+    private static Session session(final ResultCache cache) {
+        return new InvalidatingSession(
+            new H2Session(
+                "CREATE TABLE t44 (name VARCHAR(50))",
+                "INSERT INTO t44 (name) VALUES ('Ada')"
+            ),
+            cache
+        );
+    }
+}
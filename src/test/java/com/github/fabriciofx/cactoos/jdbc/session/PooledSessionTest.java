@@ -0,0 +1,193 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.session;
+
+import com.github.fabriciofx.cactoos.jdbc.RandomDatabaseName;
+import com.github.fabriciofx.cactoos.jdbc.query.SimpleQuery;
+import com.github.fabriciofx.cactoos.jdbc.query.param.IntParam;
+import com.github.fabriciofx.cactoos.jdbc.result.ResultAsValues;
+import com.github.fabriciofx.cactoos.jdbc.source.H2Source;
+import com.github.fabriciofx.cactoos.jdbc.stmt.Insert;
+import com.github.fabriciofx.cactoos.jdbc.stmt.Select;
+import com.github.fabriciofx.cactoos.jdbc.stmt.Update;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * PooledSession tests.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.3
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+public final class PooledSessionTest {
+    @Test
+    public void reuse() throws Exception {
+        try (
+            final PooledSession pool = new PooledSession(
+                new NoAuthSession(
+                    new H2Source(new RandomDatabaseName().asString())
+                ),
+                1
+            )
+        ) {
+            final Connection first;
+            try (final Connection conn = pool.connection()) {
+                first = conn.getMetaData().getConnection();
+            }
+            try (final Connection conn = pool.connection()) {
+                MatcherAssert.assertThat(
+                    "Can't reuse a pooled connection",
+                    conn.getMetaData().getConnection(),
+                    Matchers.sameInstance(first)
+                );
+            }
+        }
+    }
+
+    @Test(expected = SQLTimeoutException.class)
+    public void bounded() throws Exception {
+        try (
+            final PooledSession pool = new PooledSession(
+                new NoAuthSession(
+                    new H2Source(new RandomDatabaseName().asString())
+                ),
+                1,
+                1,
+                10L
+            );
+            final Connection conn = pool.connection()
+        ) {
+            conn.setAutoCommit(true);
+            pool.connection();
+        }
+    }
+
+    @Test
+    public void statements() throws Exception {
+        try (
+            final PooledSession pool = new PooledSession(
+                new NoAuthSession(
+                    new H2Source(new RandomDatabaseName().asString())
+                ),
+                2
+            )
+        ) {
+            new Update(
+                pool,
+                new SimpleQuery("CREATE TABLE t31 (id INT, PRIMARY KEY (id))")
+            ).result();
+            new Insert(
+                pool,
+                new SimpleQuery(
+                    "INSERT INTO t31 (id) VALUES (:id)",
+                    new IntParam("id", 1)
+                )
+            ).result();
+            MatcherAssert.assertThat(
+                "Can't select using a pooled session",
+                new ResultAsValues<Integer>(
+                    new Select(
+                        pool,
+                        new SimpleQuery("SELECT id FROM t31")
+                    )
+                ).value(),
+                Matchers.contains(1)
+            );
+        }
+    }
+
+    @Test
+    public void resets() throws Exception {
+        try (
+            final PooledSession pool = new PooledSession(
+                new NoAuthSession(
+                    new H2Source(new RandomDatabaseName().asString())
+                ),
+                1
+            )
+        ) {
+            final Statement stmt;
+            try (final Connection conn = pool.connection()) {
+                conn.setAutoCommit(false);
+                conn.setTransactionIsolation(
+                    Connection.TRANSACTION_SERIALIZABLE
+                );
+                stmt = conn.createStatement();
+            }
+            try (final Connection conn = pool.connection()) {
+                MatcherAssert.assertThat(
+                    "Can't reset the auto-commit mode",
+                    conn.getAutoCommit(),
+                    Matchers.is(true)
+                );
+                MatcherAssert.assertThat(
+                    "Can't reset the transaction isolation",
+                    conn.getTransactionIsolation(),
+                    Matchers.equalTo(Connection.TRANSACTION_READ_COMMITTED)
+                );
+                MatcherAssert.assertThat(
+                    "Can't close the statements left open",
+                    stmt.isClosed(),
+                    Matchers.is(true)
+                );
+            }
+        }
+    }
+
+    @Test
+    public void unusableAfterClose() throws Exception {
+        try (
+            final PooledSession pool = new PooledSession(
+                new NoAuthSession(
+                    new H2Source(new RandomDatabaseName().asString())
+                ),
+                1
+            )
+        ) {
+            final Connection first = pool.connection();
+            first.close();
+            first.close();
+            try (final Connection second = pool.connection()) {
+                try {
+                    first.setAutoCommit(false);
+                } catch (final SQLException ex) {
+                    second.setAutoCommit(true);
+                }
+                MatcherAssert.assertThat(
+                    "Can use a closed pooled connection",
+                    second.getAutoCommit(),
+                    Matchers.is(true)
+                );
+            }
+        }
+    }
+}
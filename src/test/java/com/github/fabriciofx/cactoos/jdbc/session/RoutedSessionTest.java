@@ -0,0 +1,260 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.session;
+
+import com.github.fabriciofx.cactoos.jdbc.H2Session;
+import com.github.fabriciofx.cactoos.jdbc.Rows;
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.query.SimpleQuery;
+import com.github.fabriciofx.cactoos.jdbc.query.param.TextParam;
+import com.github.fabriciofx.cactoos.jdbc.result.ResultAsValues;
+import com.github.fabriciofx.cactoos.jdbc.stmt.Insert;
+import com.github.fabriciofx.cactoos.jdbc.stmt.Select;
+import com.github.fabriciofx.cactoos.jdbc.stmt.StreamedSelect;
+import com.github.fabriciofx.cactoos.jdbc.stmt.Transaction;
+import java.util.List;
+import org.cactoos.list.ListOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * RoutedSession tests.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.3
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+public final class RoutedSessionTest {
+    @Test
+    public void readsFromReplica() throws Exception {
+        MatcherAssert.assertThat(
+            "Can't route a query to a replica",
+            RoutedSessionTest.where(
+                new RoutedSession(
+                    RoutedSessionTest.node("primary"),
+                    RoutedSessionTest.node("replica")
+                )
+            ),
+            Matchers.contains("replica")
+        );
+    }
+
+    @Test
+    public void writesToPrimary() throws Exception {
+        final Session primary = RoutedSessionTest.node("primary");
+        final Session routed = new RoutedSession(
+            primary,
+            new ListOf<>(RoutedSessionTest.node("replica")),
+            0L
+        );
+        new Insert(
+            routed,
+            new SimpleQuery(
+                "INSERT INTO t42 (name) VALUES (:name)",
+                new TextParam("name", "written")
+            )
+        ).result();
+        MatcherAssert.assertThat(
+            "Can't route an insert to the primary",
+            RoutedSessionTest.where(primary),
+            Matchers.contains("primary", "written")
+        );
+    }
+
+    @Test
+    public void readsYourWrites() throws Exception {
+        final Session routed = new RoutedSession(
+            RoutedSessionTest.node("primary"),
+            new ListOf<>(RoutedSessionTest.node("replica")),
+            // @checkstyle MagicNumber (1 line)
+            60_000L
+        );
+        new Insert(
+            routed,
+            new SimpleQuery(
+                "INSERT INTO t42 (name) VALUES (:name)",
+                new TextParam("name", "written")
+            )
+        ).result();
+        MatcherAssert.assertThat(
+            "Can't read from the primary right after a write",
+            RoutedSessionTest.where(routed),
+            Matchers.contains("primary", "written")
+        );
+    }
+
+    @Test
+    public void readOnlyTransaction() throws Exception {
+        final Session routed = new RoutedSession(
+            RoutedSessionTest.node("primary"),
+            RoutedSessionTest.node("replica")
+        );
+        final TransactedSession transacted = new TransactedSession(
+            routed,
+            true
+        );
+        MatcherAssert.assertThat(
+            "Can't route a read-only transaction to a replica",
+            new Transaction<>(
+                transacted,
+                () -> RoutedSessionTest.where(transacted)
+            ).result().value(),
+            Matchers.contains("replica")
+        );
+    }
+
+    @Test
+    public void readOnlyTransactionReadsYourWrites() throws Exception {
+        final Session routed = new RoutedSession(
+            RoutedSessionTest.node("primary"),
+            new ListOf<>(RoutedSessionTest.node("replica")),
+            // @checkstyle MagicNumber (1 line)
+            60_000L
+        );
+        new Insert(
+            routed,
+            new SimpleQuery(
+                "INSERT INTO t42 (name) VALUES (:name)",
+                new TextParam("name", "written")
+            )
+        ).result();
+        final TransactedSession transacted = new TransactedSession(
+            routed,
+            true
+        );
+        MatcherAssert.assertThat(
+            "Can't route a read-only transaction to the primary after a write",
+            new Transaction<>(
+                transacted,
+                () -> RoutedSessionTest.where(transacted)
+            ).result().value(),
+            Matchers.contains("primary", "written")
+        );
+    }
+
+    @Test
+    public void transactionToPrimary() throws Exception {
+        final Session routed = new RoutedSession(
+            RoutedSessionTest.node("primary"),
+            RoutedSessionTest.node("replica")
+        );
+        final TransactedSession transacted = new TransactedSession(routed);
+        MatcherAssert.assertThat(
+            "Can't route a transaction to the primary",
+            new Transaction<>(
+                transacted,
+                () -> RoutedSessionTest.where(transacted)
+            ).result().value(),
+            Matchers.contains("primary")
+        );
+    }
+
+    @Test
+    public void readsWithFromReplica() throws Exception {
+        MatcherAssert.assertThat(
+            "Can't route a query with a common table expression to a replica",
+            RoutedSessionTest.where(
+                new RoutedSession(
+                    RoutedSessionTest.node("primary"),
+                    RoutedSessionTest.node("replica")
+                ),
+                String.join(
+                    " ",
+                    "/* names */ WITH n AS (SELECT id, name FROM t42)",
+                    "SELECT name FROM n ORDER BY id -- FOR UPDATE"
+                )
+            ),
+            Matchers.contains("replica")
+        );
+    }
+
+    @Test
+    public void locksOnPrimary() throws Exception {
+        MatcherAssert.assertThat(
+            "Can't route a query locking rows to the primary",
+            RoutedSessionTest.where(
+                new RoutedSession(
+                    RoutedSessionTest.node("primary"),
+                    RoutedSessionTest.node("replica")
+                ),
+                "SELECT name FROM t42 ORDER BY id FOR UPDATE"
+            ),
+            Matchers.contains("primary")
+        );
+    }
+
+    @Test
+    public void leastOutstanding() throws Exception {
+        final Session routed = new RoutedSession(
+            RoutedSessionTest.node("primary"),
+            RoutedSessionTest.node("first"),
+            RoutedSessionTest.node("second")
+        );
+        try (
+            final Rows open = new StreamedSelect(
+                routed,
+                new SimpleQuery("SELECT name FROM t42")
+            ).result().value()
+        ) {
+            final Object busy = open.iterator().next().get("name");
+            MatcherAssert.assertThat(
+                "Can't route a query to the least busy replica",
+                RoutedSessionTest.where(routed),
+                Matchers.contains(
+                    Matchers.not(Matchers.equalTo(busy))
+                )
+            );
+        }
+    }
+
+    private static List<String> where(final Session session)
+        throws Exception {
+        return RoutedSessionTest.where(
+            session,
+            "SELECT name FROM t42 ORDER BY id"
+        );
+    }
+
+    private static List<String> where(final Session session, final String sql)
+        throws Exception {
+        return new ResultAsValues<String>(
+            new Select(session, new SimpleQuery(sql))
+        ).value();
+    }
+
+    private static Session node(final String name) {
+        return new H2Session(
+            String.join(
+                " ",
+                "CREATE TABLE t42 (id INT AUTO_INCREMENT,",
+                "name VARCHAR(50), PRIMARY KEY (id))"
+            ),
+            String.format("INSERT INTO t42 (name) VALUES ('%s')", name)
+        );
+    }
+}
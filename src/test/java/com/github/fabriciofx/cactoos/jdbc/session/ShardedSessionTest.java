@@ -0,0 +1,108 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.session;
+
+import com.github.fabriciofx.cactoos.jdbc.QueryParam;
+import com.github.fabriciofx.cactoos.jdbc.RandomDatabaseName;
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.query.SimpleQuery;
+import com.github.fabriciofx.cactoos.jdbc.query.param.IntParam;
+import com.github.fabriciofx.cactoos.jdbc.result.ResultAsValues;
+import com.github.fabriciofx.cactoos.jdbc.source.H2Source;
+import com.github.fabriciofx.cactoos.jdbc.stmt.Insert;
+import com.github.fabriciofx.cactoos.jdbc.stmt.Select;
+import com.github.fabriciofx.cactoos.jdbc.stmt.Update;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * ShardedSession tests.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.3
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+public final class ShardedSessionTest {
+    @Test
+    public void routesByKey() throws Exception {
+        final Map<String, Session> sessions = new LinkedHashMap<>();
+        for (final String name : new String[] {"east", "west", "north"}) {
+            final Session session = new NoAuthSession(
+                new H2Source(new RandomDatabaseName().asString())
+            );
+            new Update(
+                session,
+                new SimpleQuery("CREATE TABLE t41 (tenant INT)")
+            ).result();
+            sessions.put(name, session);
+        }
+        final Shards shards = new Shards(sessions);
+        // @checkstyle MagicNumber (1 line)
+        for (int tenant = 0; tenant < 30; ++tenant) {
+            final QueryParam key = new IntParam("tenant", tenant);
+            new Insert(
+                new ShardedSession(shards, key),
+                new SimpleQuery(
+                    "INSERT INTO t41 (tenant) VALUES (:tenant)",
+                    key
+                )
+            ).result();
+        }
+        // @checkstyle MagicNumber (1 line)
+        final QueryParam key = new IntParam("tenant", 7);
+        final List<Integer> found = new ResultAsValues<Integer>(
+            new Select(
+                new ShardedSession(shards, key),
+                new SimpleQuery(
+                    "SELECT tenant FROM t41 WHERE tenant = :tenant",
+                    key
+                )
+            )
+        ).value();
+        MatcherAssert.assertThat(
+            "Can't route a query to the shard of its key",
+            found,
+            Matchers.contains(7)
+        );
+        int total = 0;
+        for (final Session session : shards) {
+            total += new ResultAsValues<Integer>(
+                new Select(session, new SimpleQuery("SELECT tenant FROM t41"))
+            ).value().size();
+        }
+        MatcherAssert.assertThat(
+            "Can't keep each key in only one shard",
+            total,
+            // @checkstyle MagicNumber (1 line)
+            Matchers.equalTo(30)
+        );
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.session;
+
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.source.H2Source;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Shards tests.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.3
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+public final class ShardsTest {
+    @Test
+    public void spreadsKeys() {
+        final Map<String, Session> sessions = ShardsTest.sessions(4);
+        final Shards shards = new Shards(sessions);
+        final Map<Session, Integer> counts = new HashMap<>();
+        for (int key = 0; key < 10_000; ++key) {
+            counts.merge(
+                shards.shard(Integer.toString(key)),
+                1,
+                Integer::sum
+            );
+        }
+        MatcherAssert.assertThat(
+            "Can't spread keys evenly among shards",
+            counts.values(),
+            Matchers.everyItem(
+                Matchers.both(Matchers.greaterThan(1_800))
+                    .and(Matchers.lessThan(3_200))
+            )
+        );
+    }
+
+    @Test
+    public void movesFewKeys() {
+        final Map<String, Session> sessions = ShardsTest.sessions(4);
+        final Shards before = new Shards(sessions);
+        sessions.put("shard-4", new NoAuthSession(new H2Source("shard-4")));
+        final Shards after = new Shards(sessions);
+        int moved = 0;
+        for (int key = 0; key < 10_000; ++key) {
+            final String text = Integer.toString(key);
+            if (before.shard(text) != after.shard(text)) {
+                ++moved;
+            }
+        }
+        MatcherAssert.assertThat(
+            "Can't keep most keys when a shard is added",
+            moved,
+            Matchers.lessThan(3_000)
+        );
+    }
+
+    @Test
+    public void ignoresOrder() {
+        final Map<String, Session> sessions = ShardsTest.sessions(3);
+        final Map<String, Session> reversed = new LinkedHashMap<>();
+        reversed.put("shard-2", sessions.get("shard-2"));
+        reversed.put("shard-1", sessions.get("shard-1"));
+        reversed.put("shard-0", sessions.get("shard-0"));
+        MatcherAssert.assertThat(
+            "Can't route keys regardless of the order of the shards",
+            new Shards(reversed).shard("tenant-42"),
+            Matchers.sameInstance(new Shards(sessions).shard("tenant-42"))
+        );
+    }
+
+    private static Map<String, Session> sessions(final int count) {
+        final Map<String, Session> sessions = new LinkedHashMap<>();
+        for (int idx = 0; idx < count; ++idx) {
+            final String name = String.join(
+                "-",
+                "shard",
+                Integer.toString(idx)
+            );
+            sessions.put(name, new NoAuthSession(new H2Source(name)));
+        }
+        return sessions;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.stmt;
+
+import com.github.fabriciofx.cactoos.jdbc.RandomDatabaseName;
+import com.github.fabriciofx.cactoos.jdbc.Result;
+import com.github.fabriciofx.cactoos.jdbc.Rows;
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.query.SimpleQuery;
+import com.github.fabriciofx.cactoos.jdbc.query.param.IntParam;
+import com.github.fabriciofx.cactoos.jdbc.session.NoAuthSession;
+import com.github.fabriciofx.cactoos.jdbc.source.H2Source;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.scalar.UncheckedScalar;
+import org.cactoos.text.JoinedText;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * AsyncStatement tests.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.3
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+public final class AsyncStatementTest {
+    /**
+     * Counts down when the statement to be cancelled is running.
+     */
+    private static final CountDownLatch STARTED = new CountDownLatch(1);
+
+    @Test
+    public void composes() throws Exception {
+        final Session session = new NoAuthSession(
+            new H2Source(new RandomDatabaseName().asString())
+        );
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final CompletableFuture<Integer> sum = new AsyncStatement<>(
+                qry -> new Select(session, qry),
+                new SimpleQuery("SELECT :x AS x", new IntParam("x", 20)),
+                executor
+            ).result().thenCombine(
+                new AsyncStatement<>(
+                    qry -> new Select(session, qry),
+                    new SimpleQuery("SELECT :y AS y", new IntParam("y", 22)),
+                    executor
+                ).result(),
+                (left, right) -> AsyncStatementTest.first(left)
+                    + AsyncStatementTest.first(right)
+            );
+            MatcherAssert.assertThat(
+                "Can't compose async statements",
+                sum.get(10L, TimeUnit.SECONDS),
+                Matchers.equalTo(42)
+            );
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void cancels() throws Exception {
+        final Session session = new NoAuthSession(
+            new H2Source(new RandomDatabaseName().asString())
+        );
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        new Update(
+            session,
+            new SimpleQuery(
+                String.format(
+                    "CREATE ALIAS STARTED FOR \"%s.started\"",
+                    AsyncStatementTest.class.getName()
+                )
+            )
+        ).result();
+        final CompletableFuture<?> future = new AsyncStatement<>(
+            qry -> new Select(session, qry),
+            new SimpleQuery(
+                new JoinedText(
+                    " ",
+                    "SELECT SUM(a.x * b.x * STARTED())",
+                    "FROM SYSTEM_RANGE(1, 100000) a, SYSTEM_RANGE(1, 100000) b"
+                )
+            ),
+            executor
+        ).result();
+        MatcherAssert.assertThat(
+            "Can't start the statement",
+            AsyncStatementTest.STARTED.await(10L, TimeUnit.SECONDS),
+            Matchers.is(true)
+        );
+        future.cancel(true);
+        executor.shutdown();
+        MatcherAssert.assertThat(
+            "Can't cancel a running statement",
+            executor.awaitTermination(10L, TimeUnit.SECONDS),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * Function called by H2 while running the statement to be cancelled.
+     * @return One
+     */
+    public static int started() {
+        AsyncStatementTest.STARTED.countDown();
+        return 1;
+    }
+
+    /**
+     * The first column of the first row.
+     * @param result The result
+     * @return The value
+     */
+    private static int first(final Result<Rows> result) {
+        return (Integer) new UncheckedScalar<>(result::value).value()
+            .iterator().next().values().iterator().next();
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.stmt;
+
+import com.github.fabriciofx.cactoos.jdbc.H2Session;
+import com.github.fabriciofx.cactoos.jdbc.Rows;
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.cache.ResultCache;
+import com.github.fabriciofx.cactoos.jdbc.query.SimpleQuery;
+import com.github.fabriciofx.cactoos.jdbc.query.param.IntParam;
+import com.github.fabriciofx.cactoos.jdbc.query.param.TextParam;
+import com.github.fabriciofx.cactoos.jdbc.result.ResultAsValues;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * CachedSelect tests.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.3
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ * @checkstyle MagicNumber (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+public final class CachedSelectTest {
+    @Test
+    public void cachesRows() throws Exception {
+        final Session session = CachedSelectTest.session();
+        final ResultCache cache = new ResultCache();
+        CachedSelectTest.names(cache, session, 1);
+        CachedSelectTest.insert(session, 1, "Bob");
+        MatcherAssert.assertThat(
+            "Can't read the rows from the cache",
+            CachedSelectTest.names(cache, session, 1),
+            Matchers.contains("Ada")
+        );
+        MatcherAssert.assertThat(
+            "Can't count the hits of the cache",
+            cache.hits(),
+            Matchers.equalTo(1L)
+        );
+    }
+
+    @Test
+    public void keysByParams() throws Exception {
+        final Session session = CachedSelectTest.session();
+        final ResultCache cache = new ResultCache();
+        CachedSelectTest.insert(session, 2, "Eve");
+        CachedSelectTest.names(cache, session, 1);
+        MatcherAssert.assertThat(
+            "Can't cache the rows of other values apart",
+            CachedSelectTest.names(cache, session, 2),
+            Matchers.contains("Eve")
+        );
+    }
+
+    @Test
+    public void keysByText() throws Exception {
+        final Session session = CachedSelectTest.session();
+        final ResultCache cache = new ResultCache();
+        CachedSelectTest.insert(session, 2, "Eve");
+        new CachedSelect(
+            cache,
+            session,
+            new SimpleQuery(
+                "SELECT name FROM t43 WHERE grp = :grp",
+                new IntParam("grp", 1)
+            ),
+            () -> "grp=1"
+        ).result();
+        MatcherAssert.assertThat(
+            "Can't key the rows by the given text",
+            new ResultAsValues<String>(
+                new CachedSelect(
+                    cache,
+                    session,
+                    new SimpleQuery(
+                        "SELECT name FROM t43 WHERE grp = :grp",
+                        new IntParam("grp", 2)
+                    ),
+                    () -> "grp=2"
+                )
+            ).value(),
+            Matchers.contains("Eve")
+        );
+    }
+
+    @Test
+    public void expires() throws Exception {
+        final Session session = CachedSelectTest.session();
+        final ResultCache cache = new ResultCache(10, 1L << 20, 0L);
+        CachedSelectTest.names(cache, session, 1);
+        CachedSelectTest.insert(session, 1, "Bob");
+        MatcherAssert.assertThat(
+            "Can't expire the cached rows",
+            CachedSelectTest.names(cache, session, 1),
+            Matchers.contains("Ada", "Bob")
+        );
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsed() throws Exception {
+        final Session session = CachedSelectTest.session();
+        final ResultCache cache = new ResultCache(2, 1L << 20, 60_000L);
+        CachedSelectTest.insert(session, 2, "Eve");
+        CachedSelectTest.insert(session, 3, "Fay");
+        CachedSelectTest.names(cache, session, 1);
+        CachedSelectTest.names(cache, session, 2);
+        CachedSelectTest.names(cache, session, 1);
+        CachedSelectTest.names(cache, session, 3);
+        CachedSelectTest.insert(session, 1, "Bob");
+        CachedSelectTest.insert(session, 2, "Gus");
+        MatcherAssert.assertThat(
+            "Can't keep the most recently used rows",
+            CachedSelectTest.names(cache, session, 1),
+            Matchers.contains("Ada")
+        );
+        MatcherAssert.assertThat(
+            "Can't evict the least recently used rows",
+            CachedSelectTest.names(cache, session, 2),
+            Matchers.contains("Eve", "Gus")
+        );
+    }
+
+    @Test
+    public void boundsBytes() throws Exception {
+        final Session session = CachedSelectTest.session();
+        final ResultCache cache = new ResultCache(10, 16L, 60_000L);
+        CachedSelectTest.names(cache, session, 1);
+        MatcherAssert.assertThat(
+            "Can't skip rows bigger than the cache",
+            cache.size(),
+            Matchers.equalTo(0)
+        );
+    }
+
+    @Test
+    public void loadsOnce() throws Exception {
+        final ResultCache cache = new ResultCache();
+        final Session session = CachedSelectTest.session();
+        final AtomicInteger loads = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService exec = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<Rows>> futures = new ArrayList<>(8);
+            for (int idx = 0; idx < 8; ++idx) {
+                futures.add(
+                    exec.submit(
+                        () -> {
+                            start.await();
+                            return cache.rows(
+                                "key",
+                                () -> {
+                                    loads.incrementAndGet();
+                                    Thread.sleep(200L);
+                                    return new Select(
+                                        session,
+                                        new SimpleQuery("SELECT name FROM t43")
+                                    ).result().value();
+                                }
+                            );
+                        }
+                    )
+                );
+            }
+            start.countDown();
+            for (final Future<Rows> future : futures) {
+                future.get();
+            }
+        } finally {
+            exec.shutdown();
+        }
+        MatcherAssert.assertThat(
+            "Can't load a key once for concurrent misses",
+            loads.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    private static List<String> names(
+        final ResultCache cache,
+        final Session session,
+        final int group
+    ) throws Exception {
+        return new ResultAsValues<String>(
+            new CachedSelect(
+                cache,
+                session,
+                "SELECT name FROM t43 WHERE grp = :grp ORDER BY name",
+                new IntParam("grp", group)
+            )
+        ).value();
+    }
+
+    private static void insert(
+        final Session session,
+        final int group,
+        final String name
+    ) throws Exception {
+        new Insert(
+            session,
+            new SimpleQuery(
+                "INSERT INTO t43 (grp, name) VALUES (:grp, :name)",
+                new IntParam("grp", group),
+                new TextParam("name", name)
+            )
+        ).result();
+    }
+
+    private static Session session() {
+        return new H2Session(
+            "CREATE TABLE t43 (grp INT, name VARCHAR(50))",
+            "INSERT INTO t43 (grp, name) VALUES (1, 'Ada')"
+        );
+    }
+}
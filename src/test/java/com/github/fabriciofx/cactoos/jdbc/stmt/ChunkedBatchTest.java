@@ -0,0 +1,229 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.stmt;
+
+import com.github.fabriciofx.cactoos.jdbc.H2Session;
+import com.github.fabriciofx.cactoos.jdbc.QueryParams;
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.SmartQueryParams;
+import com.github.fabriciofx.cactoos.jdbc.query.SimpleQuery;
+import com.github.fabriciofx.cactoos.jdbc.query.param.IntParam;
+import com.github.fabriciofx.cactoos.jdbc.query.param.TextParam;
+import com.github.fabriciofx.cactoos.jdbc.result.ResultAsValues;
+import com.github.fabriciofx.cactoos.jdbc.session.TransactedSession;
+import java.sql.SQLException;
+import org.cactoos.list.ListOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * ChunkedBatch tests.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.3
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+@SuppressWarnings(
+    {
+        "PMD.AvoidDuplicateLiterals",
+        "PMD.AvoidInstantiatingObjectsInLoops"
+    }
+)
+public final class ChunkedBatchTest {
+    @Test
+    public void chunks() throws Exception {
+        final Session session = new H2Session(
+            "CREATE TABLE item (id INT PRIMARY KEY, name VARCHAR(20))"
+        );
+        MatcherAssert.assertThat(
+            "Can't count the affected rows",
+            new ChunkedBatch(
+                session,
+                () -> "INSERT INTO item (id, name) VALUES (:id, :name)",
+                10,
+                0L,
+                false,
+                ChunkedBatchTest.rows(1, 25)
+            ).result().value(),
+            Matchers.equalTo(25L)
+        );
+        MatcherAssert.assertThat(
+            "Can't insert all the rows",
+            new ResultAsValues<Integer>(
+                new Select(session, new SimpleQuery("SELECT id FROM item"))
+            ).value(),
+            Matchers.hasSize(25)
+        );
+    }
+
+    @Test
+    public void chunksByBytes() throws Exception {
+        MatcherAssert.assertThat(
+            "Can't flush by bytes",
+            new ChunkedBatch(
+                new H2Session(
+                    "CREATE TABLE item (id INT PRIMARY KEY, name VARCHAR(20))"
+                ),
+                () -> "INSERT INTO item (id, name) VALUES (:id, :name)",
+                1000,
+                16L,
+                false,
+                ChunkedBatchTest.rows(1, 7)
+            ).result().value(),
+            Matchers.equalTo(7L)
+        );
+    }
+
+    @Test
+    public void commitsEachChunk() throws Exception {
+        final Session session = new H2Session(
+            "CREATE TABLE item (id INT PRIMARY KEY, name VARCHAR(20))"
+        );
+        final QueryParams[] rows = ChunkedBatchTest.rows(1, 25);
+        rows[24] = rows[0];
+        try {
+            new ChunkedBatch(
+                session,
+                () -> "INSERT INTO item (id, name) VALUES (:id, :name)",
+                10,
+                0L,
+                true,
+                rows
+            ).result();
+        } catch (final SQLException ex) {
+            MatcherAssert.assertThat(
+                "Can't fail on a duplicated row",
+                ex.getMessage(),
+                Matchers.notNullValue()
+            );
+        }
+        MatcherAssert.assertThat(
+            "Can't keep the committed chunks",
+            new ResultAsValues<Integer>(
+                new Select(session, new SimpleQuery("SELECT id FROM item"))
+            ).value(),
+            Matchers.hasSize(20)
+        );
+    }
+
+    @Test
+    public void joinsOpenTransaction() throws Exception {
+        final Session session = new H2Session(
+            "CREATE TABLE item (id INT PRIMARY KEY, name VARCHAR(20))"
+        );
+        final TransactedSession transacted = new TransactedSession(session);
+        try {
+            new Transaction<>(
+                transacted,
+                () -> {
+                    new ChunkedBatch(
+                        transacted,
+                        () -> "INSERT INTO item (id, name) VALUES (:id, :name)",
+                        10,
+                        0L,
+                        true,
+                        ChunkedBatchTest.rows(1, 25)
+                    ).result();
+                    throw new IllegalStateException("Roll it back");
+                }
+            ).result();
+        } catch (final IllegalStateException ex) {
+            MatcherAssert.assertThat(
+                "Can't fail the transaction",
+                ex.getMessage(),
+                Matchers.notNullValue()
+            );
+        }
+        MatcherAssert.assertThat(
+            "Can't leave the open transaction to its owner",
+            new ResultAsValues<Integer>(
+                new Select(session, new SimpleQuery("SELECT id FROM item"))
+            ).value(),
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    public void producesRows() throws Exception {
+        final Session session = new H2Session(
+            "CREATE TABLE item (id INT PRIMARY KEY, name VARCHAR(20))"
+        );
+        new ChunkedBatch(
+            session,
+            () -> "INSERT INTO item (id, name) VALUES (:id, :name)",
+            row -> {
+                for (int idx = 1; idx <= 2500; ++idx) {
+                    row.exec(
+                        new SmartQueryParams(
+                            new IntParam("id", idx),
+                            new TextParam("name", "lazy")
+                        )
+                    );
+                }
+            }
+        ).result();
+        MatcherAssert.assertThat(
+            "Can't insert produced rows",
+            new ResultAsValues<Integer>(
+                new Select(session, new SimpleQuery("SELECT id FROM item"))
+            ).value(),
+            Matchers.hasSize(2500)
+        );
+    }
+
+    @Test
+    public void iteratesRows() throws Exception {
+        MatcherAssert.assertThat(
+            "Can't insert rows from an iterator",
+            new ChunkedBatch(
+                new H2Session(
+                    "CREATE TABLE item (id INT PRIMARY KEY, name VARCHAR(20))"
+                ),
+                () -> "INSERT INTO item (id, name) VALUES (:id, :name)",
+                new ListOf<>(ChunkedBatchTest.rows(1, 3)).iterator()
+            ).result().value(),
+            Matchers.equalTo(3L)
+        );
+    }
+
+    /**
+     * Query parameters of many rows.
+     * @param first The first id
+     * @param last The last id
+     * @return The query parameters
+     */
+    private static QueryParams[] rows(final int first, final int last) {
+        final QueryParams[] rows = new QueryParams[last - first + 1];
+        for (int idx = first; idx <= last; ++idx) {
+            rows[idx - first] = new SmartQueryParams(
+                new IntParam("id", idx),
+                new TextParam("name", String.format("item %d", idx))
+            );
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.stmt;
+
+import com.github.fabriciofx.cactoos.jdbc.H2Session;
+import com.github.fabriciofx.cactoos.jdbc.Server;
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.SmartQueryParams;
+import com.github.fabriciofx.cactoos.jdbc.query.SimpleQuery;
+import com.github.fabriciofx.cactoos.jdbc.query.param.IntParam;
+import com.github.fabriciofx.cactoos.jdbc.query.param.TextParam;
+import com.github.fabriciofx.cactoos.jdbc.result.ResultAsValues;
+import com.github.fabriciofx.cactoos.jdbc.server.PsqlServer;
+import org.cactoos.text.JoinedText;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Copy tests.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.3
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+public final class CopyTest {
+    @Test
+    public void fallsBackToBatch() throws Exception {
+        final Session session = new H2Session(
+            "CREATE TABLE item (id INT PRIMARY KEY, name VARCHAR(20))"
+        );
+        MatcherAssert.assertThat(
+            "Can't count the copied rows",
+            new Copy(
+                session,
+                "item",
+                row -> {
+                    for (int idx = 1; idx <= 1500; ++idx) {
+                        row.exec(
+                            new SmartQueryParams(
+                                new IntParam("id", idx),
+                                new TextParam("name", "tab\there")
+                            )
+                        );
+                    }
+                }
+            ).result().value(),
+            Matchers.equalTo(1500L)
+        );
+        MatcherAssert.assertThat(
+            "Can't copy the rows",
+            new ResultAsValues<String>(
+                new Select(
+                    session,
+                    new SimpleQuery("SELECT name FROM item WHERE id = 1500")
+                )
+            ).value(),
+            Matchers.contains("tab\there")
+        );
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsInvalidTable() throws Exception {
+        new Copy(
+            new H2Session("CREATE TABLE item (id INT PRIMARY KEY)"),
+            "item (id) VALUES (1); DROP TABLE item; --",
+            new SmartQueryParams(new IntParam("id", 2))
+        ).result();
+    }
+
+    @Test
+    public void copiesPsql() throws Exception {
+        try (final Server server = new PsqlServer()) {
+            server.start();
+            final Session session = server.session();
+            new Update(
+                session,
+                new SimpleQuery(
+                    new JoinedText(
+                        " ",
+                        "CREATE TABLE t47 (id INT, name VARCHAR(20),",
+                        "PRIMARY KEY (id))"
+                    )
+                )
+            ).result();
+            MatcherAssert.assertThat(
+                "Can't count the rows copied to PostgreSQL",
+                new Copy(
+                    session,
+                    "t47",
+                    row -> {
+                        for (int idx = 1; idx <= 1500; ++idx) {
+                            row.exec(
+                                new SmartQueryParams(
+                                    new IntParam("id", idx),
+                                    new TextParam("name", "back\\slash\tab")
+                                )
+                            );
+                        }
+                    }
+                ).result().value(),
+                Matchers.equalTo(1500L)
+            );
+            MatcherAssert.assertThat(
+                "Can't copy the rows to PostgreSQL",
+                new ResultAsValues<String>(
+                    new Select(
+                        session,
+                        new SimpleQuery("SELECT name FROM t47 WHERE id = 1500")
+                    )
+                ).value(),
+                Matchers.contains("back\\slash\tab")
+            );
+        }
+    }
+}
@@ -218,4 +218,52 @@ public final class SelectTest {
             }
         }
     }
+
+    @Test
+    public void byName() throws Exception {
+        try (final Servers servers = new Servers(new H2Server())) {
+            final Session session = servers.sessions().iterator().next();
+            new Update(
+                session,
+                new SimpleQuery(
+                    "CREATE TABLE pet (id INT, name VARCHAR(30), owner INT)"
+                )
+            ).result();
+            new Batch(
+                session,
+                new BatchQuery(
+                    new JoinedText(
+                        " ",
+                        "INSERT INTO pet (id, name, owner)",
+                        "VALUES (:id, :name, :id)"
+                    ),
+                    new SmartQueryParams(
+                        new TextParam("name", "Rex"),
+                        new IntParam("id", 1)
+                    ),
+                    new SmartQueryParams(
+                        new TextParam("name", "Tom"),
+                        new IntParam("id", 2)
+                    )
+                )
+            ).result();
+            MatcherAssert.assertThat(
+                "Can't bind a parameter by name",
+                new ResultAsValues<String>(
+                    new Select(
+                        session,
+                        new SimpleQuery(
+                            new JoinedText(
+                                " ",
+                                "SELECT name FROM pet",
+                                "WHERE id = :who OR owner = :who"
+                            ),
+                            new IntParam("who", 2)
+                        )
+                    )
+                ).value(),
+                Matchers.contains("Tom")
+            );
+        }
+    }
 }
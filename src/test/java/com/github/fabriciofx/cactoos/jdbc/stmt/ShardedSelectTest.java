@@ -0,0 +1,163 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.stmt;
+
+import com.github.fabriciofx.cactoos.jdbc.RandomDatabaseName;
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.SmartQueryParams;
+import com.github.fabriciofx.cactoos.jdbc.query.BatchQuery;
+import com.github.fabriciofx.cactoos.jdbc.query.SimpleQuery;
+import com.github.fabriciofx.cactoos.jdbc.query.param.IntParam;
+import com.github.fabriciofx.cactoos.jdbc.query.param.TextParam;
+import com.github.fabriciofx.cactoos.jdbc.result.ResultAsValues;
+import com.github.fabriciofx.cactoos.jdbc.session.NoAuthSession;
+import com.github.fabriciofx.cactoos.jdbc.source.H2Source;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * ShardedSelect tests.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.3
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+public final class ShardedSelectTest {
+    @Test
+    public void arrival() throws Exception {
+        final ExecutorService exec = Executors.newFixedThreadPool(2);
+        try {
+            MatcherAssert.assertThat(
+                "Can't select rows from all shards",
+                new ResultAsValues<String>(
+                    new ShardedSelect(
+                        new SimpleQuery("SELECT name FROM t40"),
+                        exec,
+                        ShardedSelectTest.shard(1, "Ada", "Eve"),
+                        ShardedSelectTest.shard(2, "Bob"),
+                        ShardedSelectTest.shard(0)
+                    )
+                ).value(),
+                Matchers.containsInAnyOrder("Ada", "Bob", "Eve")
+            );
+        } finally {
+            exec.shutdown();
+        }
+    }
+
+    @Test
+    public void merged() throws Exception {
+        final ExecutorService exec = Executors.newFixedThreadPool(2);
+        try {
+            MatcherAssert.assertThat(
+                "Can't merge rows from all shards on a column",
+                new ResultAsValues<Object>(
+                    new ShardedSelect(
+                        new SimpleQuery(
+                            "SELECT name, id FROM t40 ORDER BY id"
+                        ),
+                        "id",
+                        exec,
+                        ShardedSelectTest.shard(1, "Ada", "Bob", "Dan"),
+                        ShardedSelectTest.shard(2, "Cid", "Eve"),
+                        ShardedSelectTest.shard(3, "Fay")
+                    )
+                ).value(),
+                Matchers.contains(
+                    // @checkstyle MagicNumber (2 lines)
+                    "Ada", 1, "Cid", 2, "Fay", 3, "Bob", 11, "Eve", 12,
+                    "Dan", 21
+                )
+            );
+        } finally {
+            exec.shutdown();
+        }
+    }
+
+    @Test(expected = Exception.class)
+    public void failsWithShard() throws Exception {
+        final ExecutorService exec = Executors.newFixedThreadPool(2);
+        try {
+            new ShardedSelect(
+                new SimpleQuery("SELECT name FROM t40"),
+                exec,
+                ShardedSelectTest.shard(1, "Ada"),
+                new NoAuthSession(
+                    new H2Source(new RandomDatabaseName().asString())
+                )
+            ).result();
+        } finally {
+            exec.shutdown();
+        }
+    }
+
+    /**
+     * A shard with some names.
+     * <p>The n-th name gets the id {@code first + 10 * n}.</p>
+     * @param first The id of the first name
+     * @param names The names
+     * @return The shard session
+     * @throws Exception If fails
+     */
+    private static Session shard(final int first, final String... names)
+        throws Exception {
+        final Session session = new NoAuthSession(
+            new H2Source(new RandomDatabaseName().asString())
+        );
+        new Update(
+            session,
+            new SimpleQuery(
+                "CREATE TABLE t40 (id INT, name VARCHAR(50), PRIMARY KEY (id))"
+            )
+        ).result();
+        final List<SmartQueryParams> rows = new ArrayList<>(names.length);
+        for (int idx = 0; idx < names.length; ++idx) {
+            rows.add(
+                new SmartQueryParams(
+                    // @checkstyle MagicNumber (1 line)
+                    new IntParam("id", first + 10 * idx),
+                    new TextParam("name", names[idx])
+                )
+            );
+        }
+        if (!rows.isEmpty()) {
+            new Batch(
+                session,
+                new BatchQuery(
+                    "INSERT INTO t40 (id, name) VALUES (:id, :name)",
+                    rows.toArray(new SmartQueryParams[rows.size()])
+                )
+            ).result();
+        }
+        return session;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.stmt;
+
+import com.github.fabriciofx.cactoos.jdbc.RandomDatabaseName;
+import com.github.fabriciofx.cactoos.jdbc.Rows;
+import com.github.fabriciofx.cactoos.jdbc.SmartQueryParams;
+import com.github.fabriciofx.cactoos.jdbc.query.BatchQuery;
+import com.github.fabriciofx.cactoos.jdbc.query.SimpleQuery;
+import com.github.fabriciofx.cactoos.jdbc.query.param.IntParam;
+import com.github.fabriciofx.cactoos.jdbc.query.param.TextParam;
+import com.github.fabriciofx.cactoos.jdbc.result.ResultAsValues;
+import com.github.fabriciofx.cactoos.jdbc.session.NoAuthSession;
+import com.github.fabriciofx.cactoos.jdbc.session.PooledSession;
+import com.github.fabriciofx.cactoos.jdbc.source.H2Source;
+import java.util.List;
+import org.cactoos.text.JoinedText;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * StreamedSelect tests.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.3
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+public final class StreamedSelectTest {
+    @Test
+    public void streams() throws Exception {
+        try (
+            final PooledSession session = new PooledSession(
+                new NoAuthSession(
+                    new H2Source(new RandomDatabaseName().asString())
+                ),
+                1
+            )
+        ) {
+            StreamedSelectTest.fill(session);
+            final List<String> names = new ResultAsValues<String>(
+                new StreamedSelect(
+                    session,
+                    new SimpleQuery("SELECT name FROM t32 ORDER BY id"),
+                    1
+                )
+            ).value();
+            MatcherAssert.assertThat(
+                "Can't stream rows",
+                names,
+                Matchers.contains("Ada", "Bob", "Eve")
+            );
+        }
+    }
+
+    @Test
+    public void releasesWhenClosed() throws Exception {
+        try (
+            final PooledSession session = new PooledSession(
+                new NoAuthSession(
+                    new H2Source(new RandomDatabaseName().asString())
+                ),
+                1,
+                1,
+                // @checkstyle MagicNumber (1 line)
+                100L
+            )
+        ) {
+            StreamedSelectTest.fill(session);
+            try (
+                final Rows rows = new StreamedSelect(
+                    session,
+                    new SimpleQuery("SELECT name FROM t32 ORDER BY id")
+                ).result().value()
+            ) {
+                MatcherAssert.assertThat(
+                    "Can't read the first streamed row",
+                    rows.iterator().next().get("name"),
+                    Matchers.equalTo("Ada")
+                );
+            }
+            MatcherAssert.assertThat(
+                "Can't release the connection of streamed rows",
+                new ResultAsValues<String>(
+                    new Select(
+                        session,
+                        new SimpleQuery("SELECT name FROM t32 WHERE id = 3")
+                    )
+                ).value(),
+                Matchers.contains("Eve")
+            );
+        }
+    }
+
+    private static void fill(final PooledSession session) throws Exception {
+        new Update(
+            session,
+            new SimpleQuery(
+                new JoinedText(
+                    " ",
+                    "CREATE TABLE t32 (id INT, name VARCHAR(50),",
+                    "PRIMARY KEY (id))"
+                )
+            )
+        ).result();
+        new Batch(
+            session,
+            new BatchQuery(
+                "INSERT INTO t32 (id, name) VALUES (:id, :name)",
+                new SmartQueryParams(
+                    new IntParam("id", 1),
+                    new TextParam("name", "Ada")
+                ),
+                new SmartQueryParams(
+                    new IntParam("id", 2),
+                    new TextParam("name", "Bob")
+                ),
+                new SmartQueryParams(
+                    // @checkstyle MagicNumber (1 line)
+                    new IntParam("id", 3),
+                    new TextParam("name", "Eve")
+                )
+            )
+        ).result();
+    }
+}
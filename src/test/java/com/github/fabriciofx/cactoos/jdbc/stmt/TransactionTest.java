@@ -23,13 +23,20 @@
  */
 package com.github.fabriciofx.cactoos.jdbc.stmt;
 
+import com.github.fabriciofx.cactoos.jdbc.RandomDatabaseName;
+import com.github.fabriciofx.cactoos.jdbc.Session;
 import com.github.fabriciofx.cactoos.jdbc.agenda.Contact;
 import com.github.fabriciofx.cactoos.jdbc.agenda.SqlContacts;
+import com.github.fabriciofx.cactoos.jdbc.query.SimpleQuery;
 import com.github.fabriciofx.cactoos.jdbc.result.ResultAsValue;
 import com.github.fabriciofx.cactoos.jdbc.script.SqlScriptFromInput;
 import com.github.fabriciofx.cactoos.jdbc.session.NoAuthSession;
 import com.github.fabriciofx.cactoos.jdbc.session.TransactedSession;
 import com.github.fabriciofx.cactoos.jdbc.source.H2Source;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.cactoos.io.ResourceOf;
 import org.cactoos.text.JoinedText;
 import org.hamcrest.MatcherAssert;
@@ -82,4 +89,39 @@ public final class TransactionTest {
             )
         );
     }
+
+    @Test
+    public void restoresReadOnly() throws Exception {
+        final Session h2 = new NoAuthSession(
+            new H2Source(new RandomDatabaseName().asString())
+        );
+        final List<Object> flags = new CopyOnWriteArrayList<>();
+        final TransactedSession transacted = new TransactedSession(
+            () -> {
+                final Connection origin = h2.connection();
+                return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if ("setReadOnly".equals(method.getName())) {
+                            flags.add(args[0]);
+                        }
+                        return method.invoke(origin, args);
+                    }
+                );
+            },
+            true
+        );
+        new Transaction<>(
+            transacted,
+            () -> new ResultAsValue<>(
+                new Select(transacted, new SimpleQuery("SELECT 1"))
+            ).value()
+        ).result();
+        MatcherAssert.assertThat(
+            "Can't restore the read-only flag after a transaction",
+            flags,
+            Matchers.contains(true, false)
+        );
+    }
 }
@@ -0,0 +1,146 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (C) 2018 Fabrício Barros Cabral
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.fabriciofx.cactoos.jdbc.stmt;
+
+import com.github.fabriciofx.cactoos.jdbc.H2Session;
+import com.github.fabriciofx.cactoos.jdbc.QueryParams;
+import com.github.fabriciofx.cactoos.jdbc.Session;
+import com.github.fabriciofx.cactoos.jdbc.SmartQueryParams;
+import com.github.fabriciofx.cactoos.jdbc.query.SimpleQuery;
+import com.github.fabriciofx.cactoos.jdbc.query.param.IntParam;
+import com.github.fabriciofx.cactoos.jdbc.query.param.TextParam;
+import com.github.fabriciofx.cactoos.jdbc.result.ResultAsValues;
+import java.util.ArrayList;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * ValuesBatch tests.
+ *
+ * <p>There is no thread-safety guarantee.
+ *
+ * @since 0.3
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+@SuppressWarnings(
+    {
+        "PMD.AvoidDuplicateLiterals",
+        "PMD.AvoidInstantiatingObjectsInLoops"
+    }
+)
+public final class ValuesBatchTest {
+    @Test
+    public void insertsManyRows() throws Exception {
+        final Session session = new H2Session(
+            String.join(
+                " ",
+                "CREATE TABLE item (id INT PRIMARY KEY,",
+                "name VARCHAR(20), code INT)"
+            )
+        );
+        final List<Integer> expected = new ArrayList<>(250);
+        for (int idx = 1; idx <= 250; ++idx) {
+            expected.add(idx);
+        }
+        MatcherAssert.assertThat(
+            "Can't count the inserted rows",
+            new ValuesBatch(
+                session,
+                () -> String.join(
+                    " ",
+                    "INSERT INTO item (id, name, code)",
+                    "VALUES (:id, :name, :id)"
+                ),
+                100,
+                ValuesBatchTest.rows(250)
+            ).result().value(),
+            Matchers.equalTo(250L)
+        );
+        MatcherAssert.assertThat(
+            "Can't insert the rows in order",
+            new ResultAsValues<Integer>(
+                new Select(
+                    session,
+                    new SimpleQuery("SELECT code FROM item ORDER BY id")
+                )
+            ).value(),
+            Matchers.equalTo(expected)
+        );
+    }
+
+    @Test
+    public void fallsBack() throws Exception {
+        MatcherAssert.assertThat(
+            "Can't fall back to a plain batch",
+            new ValuesBatch(
+                new H2Session(
+                    String.join(
+                        " ",
+                        "CREATE TABLE item (id INT PRIMARY KEY,",
+                        "name VARCHAR(20), code INT)"
+                    )
+                ),
+                () -> String.join(
+                    " ",
+                    "INSERT INTO item (id, name, code)",
+                    "SELECT :id, :name, 0"
+                ),
+                10,
+                ValuesBatchTest.rows(25)
+            ).result().value(),
+            Matchers.equalTo(25L)
+        );
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsNoRowsPerStatement() {
+        new ValuesBatch(
+            new H2Session(),
+            () -> "INSERT INTO item (id) VALUES (:id)",
+            0,
+            ValuesBatchTest.rows(1)
+        );
+    }
+
+    /**
+     * Query parameters of many rows.
+     * @param count Number of rows
+     * @return The query parameters
+     */
+    private static List<QueryParams> rows(final int count) {
+        final List<QueryParams> rows = new ArrayList<>(count);
+        for (int idx = 1; idx <= count; ++idx) {
+            rows.add(
+                new SmartQueryParams(
+                    new TextParam("name", String.format("item %d", idx)),
+                    new IntParam("id", idx)
+                )
+            );
+        }
+        return rows;
+    }
+}